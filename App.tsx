@@ -73,6 +73,8 @@ import { recordVisit, getStreak } from './utils/streakService';
 import { submitProfileWithConsent, isProfileSubmitEnabled } from './services/profileSubmissionService';
 import { fetchUserData, mergeUserDataIntoLocal, saveUserData, getSyncApiUrl } from './services/userSyncService';
 import { useNetworkStatus } from './utils/useNetworkStatus';
+import { subscribeDeepLinks, markDeepLinkShown } from './utils/deepLink';
+import { prefetchForMode } from './utils/prefetch';
 import { getPageMeta, getCanonicalPath } from './utils/pageMeta';
 import { getFavoriteModules, toggleFavorite } from './utils/favoriteModules';
 import { trackToolOpen, trackReviewPromptDismissed } from './utils/dataLayer';
@@ -992,11 +994,44 @@ const App: React.FC = () => {
     twitterUrl.setAttribute('content', canonicalUrl);
   }, [mode, language]);
 
+  // Warm the likely next screen's data natively (Android app only)
+  useEffect(() => {
+    if (mode && isCapacitor()) prefetchForMode(mode);
+  }, [mode]);
+
   // GTM: track tool open when mode changes (skip hub)
   useEffect(() => {
     if (mode && mode !== 'hub' && typeof window !== 'undefined') trackToolOpen(mode);
   }, [mode]);
 
+  // Native app links: cold start already loaded the target URL; warm links are applied here without reload
+  const switchModeRef = React.useRef(switchMode);
+  switchModeRef.current = switchMode;
+  useEffect(() => {
+    if (!isCapacitor()) return;
+    const raf = requestAnimationFrame(() => { markDeepLinkShown(); });
+    const unsubscribe = subscribeDeepLinks(({ url }) => {
+      let target: URL;
+      try {
+        target = new URL(url);
+      } catch {
+        return;
+      }
+      if (target.pathname.replace(/\/?$/, '') !== (window.location.pathname || '/').replace(/\/?$/, '')) {
+        // Different document (e.g. static blog page) - must navigate
+        window.location.assign(url);
+        return;
+      }
+      const linkMode = (target.searchParams.get('mode') || 'hub').toLowerCase().trim() as AppViewMode;
+      switchModeRef.current(linkMode === 'hub' || VALID_APP_MODES.includes(linkMode) ? linkMode : 'hub');
+      requestAnimationFrame(() => { markDeepLinkShown(); });
+    });
+    return () => {
+      cancelAnimationFrame(raf);
+      unsubscribe();
+    };
+  }, []);
+
   // Listen for popstate (browser/Android back)
   useEffect(() => {
     const handlePopState = (e: PopStateEvent) => {
@@ -41,6 +41,11 @@ public class AdMobPlugin extends Plugin {
     private static final String TAG = "AdMobPlugin";
     private static final String INTERSTITIAL_AD_UNIT_ID = "ca-app-pub-3559865379099936/3237133191";
     private static final String BANNER_AD_UNIT_ID = "ca-app-pub-3559865379099936/4642548355";
+    /**
+     * Rejection code for background interstitial preloads ({ preload: true }) skipped on a metered or slow
+     * link. The skipped load is remembered and run natively once NetworkQualityPlugin reports an unconstrained link.
+     */
+    private static final String DEFERRED_CODE = "DEFERRED";
     private InterstitialAd interstitialAd;
     private RewardedInterstitialAd rewardedInterstitialAd;
     private PluginCall showRewardedAdCall;
@@ -50,12 +55,15 @@ public class AdMobPlugin extends Plugin {
     private boolean isInitialized = false;
     private NativeAd nativeAd;
     private ViewGroup nativeAdContainer;
+    private volatile boolean interstitialPreloadDeferred = false;
+    private final Runnable deferredLoadListener = this::resumeDeferredLoads;
 
     @Override
     public void load() {
         super.load();
         try {
             initializeAdMob();
+            NetworkQualityPlugin.addUnconstrainedListener(deferredLoadListener);
         } catch (Exception e) {
             Log.e(TAG, "AdMob init failed (non-fatal): " + e.getMessage());
         }
@@ -99,69 +107,97 @@ public class AdMobPlugin extends Plugin {
             return;
         }
 
+        // Only background preloads wait for a better link; a load right before a show goes ahead
+        if (call.getBoolean("preload", false) && NetworkQualityPlugin.isConstrained()) {
+            interstitialPreloadDeferred = true;
+            call.reject("Interstitial preload deferred on metered or slow network", DEFERRED_CODE);
+            return;
+        }
+
+        interstitialPreloadDeferred = false;
         loadAdCall = call;
-        activity.runOnUiThread(() -> {
-            AdRequest adRequest = new AdRequest.Builder().build();
+        activity.runOnUiThread(() -> requestInterstitial(activity));
+    }
 
-            InterstitialAd.load(
-                activity,
-                INTERSTITIAL_AD_UNIT_ID,
-                adRequest,
-                new InterstitialAdLoadCallback() {
-                    @Override
-                    public void onAdLoaded(InterstitialAd ad) {
-                        interstitialAd = ad;
-                        Log.d(TAG, "Interstitial ad loaded");
-                        
-                        // Set full screen content callback
-                        ad.setFullScreenContentCallback(new FullScreenContentCallback() {
-                            @Override
-                            public void onAdDismissedFullScreenContent() {
-                                interstitialAd = null;
-                                Log.d(TAG, "Interstitial ad dismissed");
-                                if (showAdCall != null) {
-                                    JSObject result = new JSObject();
-                                    result.put("dismissed", true);
-                                    showAdCall.resolve(result);
-                                    showAdCall = null;
-                                }
-                            }
+    /** Loads an interstitial; resolves loadAdCall if one is waiting (null for a resumed preload). */
+    private void requestInterstitial(Activity activity) {
+        AdRequest adRequest = new AdRequest.Builder().build();
 
-                            @Override
-                            public void onAdFailedToShowFullScreenContent(AdError adError) {
-                                interstitialAd = null;
-                                Log.e(TAG, "Interstitial ad failed to show: " + adError.getMessage());
-                                if (showAdCall != null) {
-                                    showAdCall.reject("Failed to show ad: " + adError.getMessage());
-                                    showAdCall = null;
-                                }
+        InterstitialAd.load(
+            activity,
+            INTERSTITIAL_AD_UNIT_ID,
+            adRequest,
+            new InterstitialAdLoadCallback() {
+                @Override
+                public void onAdLoaded(InterstitialAd ad) {
+                    interstitialAd = ad;
+                    Log.d(TAG, "Interstitial ad loaded");
+                    
+                    // Set full screen content callback
+                    ad.setFullScreenContentCallback(new FullScreenContentCallback() {
+                        @Override
+                        public void onAdDismissedFullScreenContent() {
+                            interstitialAd = null;
+                            Log.d(TAG, "Interstitial ad dismissed");
+                            if (showAdCall != null) {
+                                JSObject result = new JSObject();
+                                result.put("dismissed", true);
+                                showAdCall.resolve(result);
+                                showAdCall = null;
                             }
+                        }
 
-                            @Override
-                            public void onAdShowedFullScreenContent() {
-                                Log.d(TAG, "Interstitial ad showed");
+                        @Override
+                        public void onAdFailedToShowFullScreenContent(AdError adError) {
+                            interstitialAd = null;
+                            Log.e(TAG, "Interstitial ad failed to show: " + adError.getMessage());
+                            if (showAdCall != null) {
+                                showAdCall.reject("Failed to show ad: " + adError.getMessage());
+                                showAdCall = null;
                             }
-                        });
+                        }
 
-                        if (loadAdCall != null) {
-                            JSObject result = new JSObject();
-                            result.put("loaded", true);
-                            loadAdCall.resolve(result);
-                            loadAdCall = null;
+                        @Override
+                        public void onAdShowedFullScreenContent() {
+                            Log.d(TAG, "Interstitial ad showed");
                         }
+                    });
+
+                    if (loadAdCall != null) {
+                        JSObject result = new JSObject();
+                        result.put("loaded", true);
+                        loadAdCall.resolve(result);
+                        loadAdCall = null;
                     }
+                }
 
-                    @Override
-                    public void onAdFailedToLoad(LoadAdError loadAdError) {
-                        interstitialAd = null;
-                        Log.e(TAG, "Interstitial ad failed to load: " + loadAdError.getMessage());
-                        if (loadAdCall != null) {
-                            loadAdCall.reject("Failed to load ad: " + loadAdError.getMessage());
-                            loadAdCall = null;
-                        }
+                @Override
+                public void onAdFailedToLoad(LoadAdError loadAdError) {
+                    interstitialAd = null;
+                    Log.e(TAG, "Interstitial ad failed to load: " + loadAdError.getMessage());
+                    if (loadAdCall != null) {
+                        loadAdCall.reject("Failed to load ad: " + loadAdError.getMessage());
+                        loadAdCall = null;
                     }
                 }
-            );
+            }
+        );
+    }
+
+    /**
+     * Runs preloads deferred on a constrained link; called by NetworkQualityPlugin once the link is unconstrained.
+     */
+    private void resumeDeferredLoads() {
+        Activity activity = getActivity();
+        if (activity == null || !isInitialized) {
+            return;
+        }
+        activity.runOnUiThread(() -> {
+            if (interstitialPreloadDeferred && interstitialAd == null && loadAdCall == null) {
+                interstitialPreloadDeferred = false;
+                Log.d(TAG, "Resuming deferred interstitial preload");
+                requestInterstitial(activity);
+            }
         });
     }
 
@@ -652,6 +688,7 @@ public class AdMobPlugin extends Plugin {
     @Override
     public void handleOnDestroy() {
         super.handleOnDestroy();
+        NetworkQualityPlugin.removeUnconstrainedListener(deferredLoadListener);
         if (bannerAdView != null) {
             bannerAdView.destroy();
             bannerAdView = null;
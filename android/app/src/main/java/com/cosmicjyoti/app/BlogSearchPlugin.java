@@ -0,0 +1,517 @@
+package com.cosmicjyoti.app;
+
+import android.content.res.AssetManager;
+import android.net.Uri;
+import android.os.SystemClock;
+import android.util.Log;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import com.getcapacitor.Plugin;
+import com.getcapacitor.PluginCall;
+import com.getcapacitor.PluginMethod;
+import com.getcapacitor.annotation.CapacitorPlugin;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Offline ranked blog search over the binary inverted index built by
+ * scripts/build-blog-search-index.mjs (see that script for the segment layout).
+ * Segments are memory-mapped from app storage; sync() downloads only segments added since
+ * the last sync (daily delta posts), and the copy bundled in the APK seeds first launch.
+ */
+@CapacitorPlugin(name = "BlogSearch")
+public class BlogSearchPlugin extends Plugin {
+
+    private static final String TAG = "BlogSearchPlugin";
+    private static final String INDEX_DIR = "blog-search";
+    private static final String MANIFEST = "manifest.json";
+    private static final String REMOTE_PATH = "/blog/search/";
+    private static final String ASSET_PATH = "public/blog/search/";
+    private static final int FORMAT_VERSION = 1;
+    private static final int DOC_ENTRY_BYTES = 12;
+    private static final int TERM_ENTRY_BYTES = 16;
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_PREFIX_EXPANSIONS = 32;
+    private static final int TIMEOUT_MS = 15000;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    /** Same pattern scripts/build-blog-search-index.mjs uses for segment files. */
+    private static final Pattern SEGMENT_FILE = Pattern.compile("^seg-\\d+\\.bin$");
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private volatile List<Segment> segments = Collections.emptyList();
+    private volatile int generation;
+
+    /** One memory-mapped index segment. */
+    private static final class Segment {
+        final ByteBuffer buf;
+        final int docCount;
+        final long totalDocLen;
+        final int termCount;
+        final int docTableOffset;
+        final int termTableOffset;
+        final int postingsOffset;
+        final int stringsOffset;
+
+        Segment(MappedByteBuffer buf) {
+            this.buf = buf;
+            if (buf.get(0) != 'C' || buf.get(1) != 'J' || buf.get(2) != 'B' || buf.get(3) != 'I') {
+                throw new IllegalArgumentException("Not a blog search segment");
+            }
+            if ((buf.getShort(4) & 0xffff) != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported segment version");
+            }
+            docCount = buf.getInt(8);
+            totalDocLen = buf.getInt(12) & 0xffffffffL;
+            termCount = buf.getInt(16);
+            docTableOffset = buf.getInt(20);
+            termTableOffset = buf.getInt(24);
+            postingsOffset = buf.getInt(28);
+            stringsOffset = buf.getInt(32);
+        }
+
+        /** Unsigned byte-wise comparison of term i against key (UTF-8), like Buffer.compare in the builder. */
+        int compareTerm(int i, byte[] key, boolean prefixOnly) {
+            int at = termTableOffset + i * TERM_ENTRY_BYTES;
+            int offset = stringsOffset + buf.getInt(at);
+            int len = buf.getShort(at + 4) & 0xffff;
+            int n = Math.min(len, key.length);
+            for (int k = 0; k < n; k++) {
+                int diff = (buf.get(offset + k) & 0xff) - (key[k] & 0xff);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            if (prefixOnly && len >= key.length) {
+                return 0;
+            }
+            return len - key.length;
+        }
+
+        /** First term index >= key (termCount if none). */
+        int lowerBound(byte[] key) {
+            int lo = 0;
+            int hi = termCount;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (compareTerm(mid, key, false) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        int df(int term) {
+            return buf.getInt(termTableOffset + term * TERM_ENTRY_BYTES + 8);
+        }
+
+        int postingsStart(int term) {
+            return postingsOffset + buf.getInt(termTableOffset + term * TERM_ENTRY_BYTES + 12);
+        }
+
+        long docLen(int doc) {
+            return buf.getInt(docTableOffset + doc * DOC_ENTRY_BYTES + 8) & 0xffffffffL;
+        }
+
+        String docId(int doc) {
+            int at = docTableOffset + doc * DOC_ENTRY_BYTES;
+            int offset = stringsOffset + buf.getInt(at);
+            byte[] bytes = new byte[buf.getShort(at + 4) & 0xffff];
+            for (int k = 0; k < bytes.length; k++) {
+                bytes[k] = buf.get(offset + k);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void load() {
+        super.load();
+        executor.execute(() -> {
+            try {
+                File dir = indexDir();
+                if (!new File(dir, MANIFEST).exists()) {
+                    seedFromAssets(dir);
+                }
+                openSegments(dir);
+            } catch (Exception e) {
+                Log.e(TAG, "Blog search index not available (non-fatal): " + e.getMessage());
+            }
+        });
+    }
+
+    private File indexDir() {
+        File dir = new File(getContext().getFilesDir(), INDEX_DIR);
+        if (!dir.exists() && !dir.mkdirs()) {
+            Log.e(TAG, "Could not create " + dir);
+        }
+        return dir;
+    }
+
+    /** Copies the index bundled with the web assets so search works offline on first launch. */
+    private void seedFromAssets(File dir) throws Exception {
+        AssetManager assets = getContext().getAssets();
+        JSONObject manifest;
+        try (InputStream in = assets.open(ASSET_PATH + MANIFEST)) {
+            manifest = new JSONObject(new String(readAll(in), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            Log.d(TAG, "No bundled blog search index");
+            return;
+        }
+        JSONArray list = manifest.getJSONArray("segments");
+        for (int i = 0; i < list.length(); i++) {
+            String file = segmentFile(list.getJSONObject(i));
+            try (InputStream in = assets.open(ASSET_PATH + file)) {
+                writeAtomically(new File(dir, file), in);
+            }
+        }
+        writeAtomically(new File(dir, MANIFEST), new ByteArrayInputStream(manifest.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Segment file name from a manifest entry. Only names the builder produces are accepted, so a
+     * tampered manifest cannot write, map or delete files outside the index directory.
+     */
+    private static String segmentFile(JSONObject entry) throws Exception {
+        String file = entry.getString("file");
+        if (!SEGMENT_FILE.matcher(file).matches()) {
+            throw new IllegalArgumentException("Invalid segment file name: " + file);
+        }
+        return file;
+    }
+
+    private void openSegments(File dir) throws Exception {
+        File manifestFile = new File(dir, MANIFEST);
+        if (!manifestFile.exists()) {
+            return;
+        }
+        JSONObject manifest;
+        try (InputStream in = new FileInputStream(manifestFile)) {
+            manifest = new JSONObject(new String(readAll(in), StandardCharsets.UTF_8));
+        }
+        if (manifest.optInt("version") != FORMAT_VERSION) {
+            return;
+        }
+        JSONArray list = manifest.getJSONArray("segments");
+        List<Segment> opened = new ArrayList<>();
+        for (int i = 0; i < list.length(); i++) {
+            File file = new File(dir, segmentFile(list.getJSONObject(i)));
+            try (FileInputStream in = new FileInputStream(file); FileChannel channel = in.getChannel()) {
+                // The mapping stays valid after the channel is closed
+                opened.add(new Segment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())));
+            }
+        }
+        segments = Collections.unmodifiableList(opened);
+        generation = manifest.optInt("generation");
+        Log.d(TAG, "Blog search index opened: " + opened.size() + " segment(s), generation " + generation);
+    }
+
+    /**
+     * Fetches the remote manifest and downloads only segments not stored locally (new delta posts).
+     */
+    @PluginMethod
+    public void sync(PluginCall call) {
+        executor.execute(() -> {
+            try {
+                String base = Uri.parse(getBridge().getAppUrl()).buildUpon().path(REMOTE_PATH).clearQuery().fragment(null).build().toString();
+                JSONObject manifest = new JSONObject(new String(download(base + MANIFEST), StandardCharsets.UTF_8));
+                if (manifest.optInt("version") != FORMAT_VERSION) {
+                    call.reject("Unsupported blog search index version");
+                    return;
+                }
+                JSObject result = new JSObject();
+                if (manifest.optInt("generation") == generation && !segments.isEmpty()) {
+                    result.put("updated", false);
+                    result.put("generation", generation);
+                    call.resolve(result);
+                    return;
+                }
+
+                File dir = indexDir();
+                JSONArray list = manifest.getJSONArray("segments");
+                Set<String> keep = new HashSet<>();
+                keep.add(MANIFEST);
+                int downloaded = 0;
+                for (int i = 0; i < list.length(); i++) {
+                    String file = segmentFile(list.getJSONObject(i));
+                    keep.add(file);
+                    // Segment files are immutable per name, so an existing file is already current
+                    if (!new File(dir, file).exists()) {
+                        writeAtomically(new File(dir, file), new ByteArrayInputStream(download(base + file)));
+                        downloaded++;
+                    }
+                }
+                writeAtomically(new File(dir, MANIFEST), new ByteArrayInputStream(manifest.toString().getBytes(StandardCharsets.UTF_8)));
+                openSegments(dir);
+
+                File[] files = dir.listFiles();
+                if (files != null) {
+                    for (File f : files) {
+                        if (!keep.contains(f.getName()) && !f.delete()) {
+                            Log.d(TAG, "Could not delete stale segment " + f.getName());
+                        }
+                    }
+                }
+
+                result.put("updated", true);
+                result.put("generation", generation);
+                result.put("downloadedSegments", downloaded);
+                result.put("totalDocs", manifest.optInt("totalDocs"));
+                call.resolve(result);
+            } catch (Exception e) {
+                Log.e(TAG, "Blog search sync failed: " + e.getMessage());
+                call.reject("Blog search sync failed: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Ranked BM25 search: { query, limit? } -> { postIds, scores, tookMs }; limit <= 0 returns every match.
+     * The last query term also matches as a prefix so results update while typing.
+     */
+    @PluginMethod
+    public void search(PluginCall call) {
+        String query = call.getString("query", "");
+        int limit = call.getInt("limit", DEFAULT_LIMIT);
+        List<Segment> current = segments;
+        if (current.isEmpty()) {
+            call.reject("Blog search index not loaded");
+            return;
+        }
+
+        long start = SystemClock.elapsedRealtime();
+        List<String> tokens = tokenize(query);
+        JSObject result = new JSObject();
+        JSArray postIds = new JSArray();
+        JSArray scores = new JSArray();
+
+        if (!tokens.isEmpty()) {
+            long totalDocs = 0;
+            long totalLen = 0;
+            for (Segment seg : current) {
+                totalDocs += seg.docCount;
+                totalLen += seg.totalDocLen;
+            }
+            float avgDocLen = totalDocs > 0 ? (float) totalLen / totalDocs : 1f;
+
+            // Resolve each query term to matching term entries per segment, and sum df across segments
+            Map<String, int[][]> matches = new HashMap<>();
+            Map<String, Long> df = new HashMap<>();
+            for (int t = 0; t < tokens.size(); t++) {
+                boolean prefix = t == tokens.size() - 1 && tokens.get(t).length() >= 3;
+                byte[] key = tokens.get(t).getBytes(StandardCharsets.UTF_8);
+                for (int s = 0; s < current.size(); s++) {
+                    Segment seg = current.get(s);
+                    int i = seg.lowerBound(key);
+                    int expansions = 0;
+                    while (i < seg.termCount && expansions < MAX_PREFIX_EXPANSIONS && seg.compareTerm(i, key, prefix) == 0) {
+                        String term = prefix ? termAt(seg, i) : tokens.get(t);
+                        int[][] perSegment = matches.get(term);
+                        if (perSegment == null) {
+                            perSegment = new int[current.size()][];
+                            matches.put(term, perSegment);
+                        }
+                        // A prefix expansion can hit a term an earlier token already matched; count its df once per segment
+                        if (perSegment[s] == null) {
+                            perSegment[s] = new int[] { i };
+                            Long sum = df.get(term);
+                            df.put(term, (sum == null ? 0 : sum) + seg.df(i));
+                        }
+                        i++;
+                        expansions++;
+                        if (!prefix) {
+                            break;
+                        }
+                    }
+                }
+            }
+
+            // Score: key = segment index << 32 | doc index
+            Map<Long, Float> scored = new HashMap<>();
+            for (Map.Entry<String, int[][]> match : matches.entrySet()) {
+                long termDf = df.get(match.getKey());
+                float idf = (float) Math.log(1 + (totalDocs - termDf + 0.5) / (termDf + 0.5));
+                int[][] perSegment = match.getValue();
+                for (int s = 0; s < perSegment.length; s++) {
+                    if (perSegment[s] == null) {
+                        continue;
+                    }
+                    Segment seg = current.get(s);
+                    int term = perSegment[s][0];
+                    int count = seg.df(term);
+                    int[] pos = { seg.postingsStart(term) };
+                    int doc = 0;
+                    for (int p = 0; p < count; p++) {
+                        doc += readVarint(seg.buf, pos);
+                        int tf = readVarint(seg.buf, pos);
+                        float norm = K1 * (1 - B + B * seg.docLen(doc) / avgDocLen);
+                        float score = idf * (tf * (K1 + 1)) / (tf + norm);
+                        long key = ((long) s << 32) | doc;
+                        Float prev = scored.get(key);
+                        scored.put(key, prev == null ? score : prev + score);
+                    }
+                }
+            }
+
+            List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scored.entrySet());
+            Collections.sort(ranked, (a, b) -> Float.compare(b.getValue(), a.getValue()));
+            Set<String> seen = new LinkedHashSet<>();
+            for (Map.Entry<Long, Float> entry : ranked) {
+                if (limit > 0 && seen.size() >= limit) {
+                    break;
+                }
+                Segment seg = current.get((int) (entry.getKey() >>> 32));
+                String id = seg.docId((int) (entry.getKey() & 0xffffffffL));
+                if (seen.add(id)) {
+                    postIds.put(id);
+                    scores.put(entry.getValue());
+                }
+            }
+        }
+
+        result.put("postIds", postIds);
+        result.put("scores", scores);
+        result.put("tookMs", SystemClock.elapsedRealtime() - start);
+        call.resolve(result);
+    }
+
+    /**
+     * Ids of all indexed posts, so JS can still keyword-search posts published after the last sync.
+     */
+    @PluginMethod
+    public void getIndexedIds(PluginCall call) {
+        List<Segment> current = segments;
+        JSArray postIds = new JSArray();
+        for (Segment seg : current) {
+            for (int doc = 0; doc < seg.docCount; doc++) {
+                postIds.put(seg.docId(doc));
+            }
+        }
+        JSObject result = new JSObject();
+        result.put("postIds", postIds);
+        result.put("generation", generation);
+        call.resolve(result);
+    }
+
+    @PluginMethod
+    public void getInfo(PluginCall call) {
+        List<Segment> current = segments;
+        int docs = 0;
+        for (Segment seg : current) {
+            docs += seg.docCount;
+        }
+        JSObject result = new JSObject();
+        result.put("loaded", !current.isEmpty());
+        result.put("segments", current.size());
+        result.put("docs", docs);
+        result.put("generation", generation);
+        call.resolve(result);
+    }
+
+    /** Must match tokenize() in scripts/build-blog-search-index.mjs (stopwords simply never match). */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String t : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{M}\\p{N}]+")) {
+            if (t.length() >= 2 && !tokens.contains(t)) {
+                tokens.add(t);
+            }
+        }
+        return tokens;
+    }
+
+    private static String termAt(Segment seg, int i) {
+        int at = seg.termTableOffset + i * TERM_ENTRY_BYTES;
+        int offset = seg.stringsOffset + seg.buf.getInt(at);
+        byte[] bytes = new byte[seg.buf.getShort(at + 4) & 0xffff];
+        for (int k = 0; k < bytes.length; k++) {
+            bytes[k] = seg.buf.get(offset + k);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readVarint(ByteBuffer buf, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            int b = buf.get(pos[0]++) & 0xff;
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static byte[] download(String url) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setConnectTimeout(TIMEOUT_MS);
+            connection.setReadTimeout(TIMEOUT_MS);
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                throw new Exception("HTTP " + connection.getResponseCode() + " for " + url);
+            }
+            try (InputStream in = connection.getInputStream()) {
+                return readAll(in);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeAtomically(File target, InputStream in) throws Exception {
+        File tmp = new File(target.getParentFile(), target.getName() + ".tmp");
+        try (OutputStream out = new FileOutputStream(tmp)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        if (!tmp.renameTo(target)) {
+            throw new Exception("Could not write " + target.getName());
+        }
+    }
+
+    @Override
+    public void handleOnDestroy() {
+        super.handleOnDestroy();
+        executor.shutdownNow();
+    }
+}
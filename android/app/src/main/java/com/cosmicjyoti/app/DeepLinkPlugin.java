@@ -0,0 +1,205 @@
+package com.cosmicjyoti.app;
+
+import android.content.Intent;
+import android.net.Uri;
+import android.os.SystemClock;
+import android.util.Log;
+import com.getcapacitor.JSObject;
+import com.getcapacitor.Plugin;
+import com.getcapacitor.PluginCall;
+import com.getcapacitor.PluginMethod;
+import com.getcapacitor.annotation.CapacitorPlugin;
+
+/**
+ * Native fast path for cosmicjyoti.com app links.
+ * Cold start: MainActivity parses the route before the bridge starts and loads the final URL directly.
+ * Warm start (singleTask onNewIntent): if the SPA is listening, the route is handed to JS as a
+ * "deepLinkOpen" event and applied without a page reload; otherwise (e.g. a static blog page is
+ * showing) the WebView loads the URL natively.
+ * Link-to-content latency is measured until JS calls markRouteShown() from the linked document;
+ * routes that never reach the SPA are dropped unmeasured rather than counted late.
+ */
+@CapacitorPlugin(name = "DeepLink")
+public class DeepLinkPlugin extends Plugin {
+
+    private static final String TAG = "DeepLinkPlugin";
+    private static final String EVENT_OPEN = "deepLinkOpen";
+    /** A pending route not shown within this window is dropped instead of recorded with a bogus latency. */
+    private static final long PENDING_TIMEOUT_MS = 30000;
+
+    private static Intent coldStartIntent;
+    private static String pendingRoute;
+    private static long pendingReceivedAt;
+    private static boolean pendingCold;
+
+    private static String lastKind;
+    private static String lastRoute;
+    private static long lastLatencyMs = -1;
+    private static int coldCount;
+    private static long coldTotalMs;
+    private static int warmCount;
+    private static long warmTotalMs;
+
+    /**
+     * Returns path + query + fragment for a cosmicjyoti.com VIEW intent, or null if the intent is not an app link.
+     */
+    static String parseRoute(Intent intent) {
+        if (intent == null || !Intent.ACTION_VIEW.equals(intent.getAction())) {
+            return null;
+        }
+        Uri uri = intent.getData();
+        if (uri == null || !"https".equals(uri.getScheme())) {
+            return null;
+        }
+        String host = uri.getHost();
+        if (!"cosmicjyoti.com".equals(host) && !"www.cosmicjyoti.com".equals(host)) {
+            return null;
+        }
+        String path = uri.getEncodedPath();
+        StringBuilder route = new StringBuilder(path == null || path.isEmpty() ? "/" : path);
+        if (uri.getEncodedQuery() != null) {
+            route.append('?').append(uri.getEncodedQuery());
+        }
+        if (uri.getEncodedFragment() != null) {
+            route.append('#').append(uri.getEncodedFragment());
+        }
+        return route.toString();
+    }
+
+    /**
+     * Rebases a route onto the bridge's app URL so both apex and www links stay on the host
+     * the bridge serves (and injects the Capacitor runtime into).
+     */
+    static String resolveUrl(String appUrl, String route) {
+        Uri base = Uri.parse(appUrl);
+        return base.getScheme() + "://" + base.getEncodedAuthority() + route;
+    }
+
+    /** Queues the launch intent's route before the bridge is created. */
+    static synchronized void queueColdStart(Intent intent, String route, long receivedAt) {
+        coldStartIntent = intent;
+        queue(route, receivedAt, true);
+    }
+
+    private static synchronized void queue(String route, long receivedAt, boolean cold) {
+        pendingRoute = route;
+        pendingReceivedAt = receivedAt;
+        pendingCold = cold;
+    }
+
+    @Override
+    protected void handleOnNewIntent(Intent intent) {
+        super.handleOnNewIntent(intent);
+        // BridgeActivity replays the launch intent through onNewIntent; it is already loaded as the start URL
+        if (intent == coldStartIntent) {
+            return;
+        }
+        String route = parseRoute(intent);
+        if (route == null) {
+            return;
+        }
+        long receivedAt = SystemClock.elapsedRealtime();
+        queue(route, receivedAt, false);
+        String url = resolveUrl(getBridge().getAppUrl(), route);
+
+        if (!hasListeners(EVENT_OPEN)) {
+            // No SPA listening (static page showing); do not retain the event for a later, unrelated App mount
+            if (getBridge().getWebView() != null) {
+                getBridge().getWebView().loadUrl(url);
+            }
+            Log.d(TAG, "Warm deep link loaded natively: " + route);
+            return;
+        }
+        JSObject data = new JSObject();
+        data.put("route", route);
+        data.put("url", url);
+        notifyListeners(EVENT_OPEN, data);
+        Log.d(TAG, "Warm deep link queued: " + route);
+    }
+
+    /** Path of a route without query/fragment and trailing slash, for comparing with location.pathname. */
+    private static String pathOf(String route) {
+        int end = route.length();
+        int query = route.indexOf('?');
+        int fragment = route.indexOf('#');
+        if (query >= 0) end = Math.min(end, query);
+        if (fragment >= 0) end = Math.min(end, fragment);
+        String path = route.substring(0, end);
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the queued route (if any) without consuming the latency measurement.
+     */
+    @PluginMethod
+    public void getPendingRoute(PluginCall call) {
+        JSObject result = new JSObject();
+        synchronized (DeepLinkPlugin.class) {
+            result.put("route", pendingRoute);
+            result.put("cold", pendingCold);
+        }
+        call.resolve(result);
+    }
+
+    /**
+     * Called by JS once the linked content is on screen ({ path: location.pathname }); records link-to-content
+     * latency for the pending route. A route for another document, or one older than PENDING_TIMEOUT_MS,
+     * is dropped unmeasured.
+     */
+    @PluginMethod
+    public void markRouteShown(PluginCall call) {
+        String path = call.getString("path");
+        JSObject result = new JSObject();
+        synchronized (DeepLinkPlugin.class) {
+            if (pendingRoute == null) {
+                result.put("measured", false);
+                call.resolve(result);
+                return;
+            }
+            long latency = SystemClock.elapsedRealtime() - pendingReceivedAt;
+            boolean otherDocument = path != null && !pathOf(pendingRoute).equals(pathOf(path));
+            if (otherDocument || latency > PENDING_TIMEOUT_MS) {
+                Log.d(TAG, "Dropping unmeasured deep link " + pendingRoute + (otherDocument ? " (not shown in this document)" : " (expired)"));
+                pendingRoute = null;
+                result.put("measured", false);
+                call.resolve(result);
+                return;
+            }
+            lastKind = pendingCold ? "cold" : "warm";
+            lastRoute = pendingRoute;
+            lastLatencyMs = latency;
+            if (pendingCold) {
+                coldCount++;
+                coldTotalMs += latency;
+            } else {
+                warmCount++;
+                warmTotalMs += latency;
+            }
+            pendingRoute = null;
+            result.put("measured", true);
+            result.put("kind", lastKind);
+            result.put("route", lastRoute);
+            result.put("latencyMs", latency);
+        }
+        Log.d(TAG, "Deep link " + result.getString("kind") + " latency: " + result.getString("latencyMs") + "ms");
+        call.resolve(result);
+    }
+
+    @PluginMethod
+    public void getMetrics(PluginCall call) {
+        JSObject result = new JSObject();
+        synchronized (DeepLinkPlugin.class) {
+            result.put("lastKind", lastKind);
+            result.put("lastRoute", lastRoute);
+            result.put("lastLatencyMs", lastLatencyMs);
+            result.put("coldCount", coldCount);
+            result.put("coldAvgMs", coldCount > 0 ? coldTotalMs / coldCount : -1);
+            result.put("warmCount", warmCount);
+            result.put("warmAvgMs", warmCount > 0 ? warmTotalMs / warmCount : -1);
+        }
+        call.resolve(result);
+    }
+}
@@ -0,0 +1,428 @@
+package com.cosmicjyoti.app;
+
+import android.app.Activity;
+import android.content.ClipData;
+import android.content.ContentResolver;
+import android.content.Intent;
+import android.database.Cursor;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+import android.net.Uri;
+import android.os.Build;
+import android.os.SystemClock;
+import android.provider.MediaStore;
+import android.provider.OpenableColumns;
+import android.util.Base64;
+import android.util.Log;
+import androidx.activity.result.ActivityResult;
+import androidx.core.content.FileProvider;
+import androidx.exifinterface.media.ExifInterface;
+import com.getcapacitor.JSObject;
+import com.getcapacitor.Plugin;
+import com.getcapacitor.PluginCall;
+import com.getcapacitor.PluginMethod;
+import com.getcapacitor.annotation.ActivityCallback;
+import com.getcapacitor.annotation.CapacitorPlugin;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prepares palm/face photos natively so full-resolution images never pass through the WebView:
+ * decodes with downsampling, applies EXIF orientation, optionally center-crops to a square,
+ * scales to the model input size and re-encodes (JPEG/WebP) within a byte budget on a
+ * background thread. Returns a cache file path plus the compact base64 payload Gemini needs.
+ */
+@CapacitorPlugin(name = "ImagePrep")
+public class ImagePrepPlugin extends Plugin {
+
+    private static final String TAG = "ImagePrepPlugin";
+    private static final String CACHE_DIR = "image-prep";
+    private static final int DEFAULT_MAX_DIMENSION = 1024;
+    private static final int DEFAULT_MAX_BYTES = 200 * 1024;
+    private static final int MIN_QUALITY = 40;
+    private static final int MAX_QUALITY = 90;
+    private static final int MAX_DOWNSCALE_ATTEMPTS = 3;
+    private static final long CACHE_MAX_AGE_MS = 60 * 60 * 1000;
+    /**
+     * Call data key for the camera output URI. Capacitor persists saved call data across process
+     * death, which is common on low-RAM devices while the camera app is in front.
+     */
+    private static final String CAPTURE_URI_KEY = "captureUri";
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    /** Encoded image with the dimensions of the bitmap that produced it (may be downscaled to fit maxBytes). */
+    private static final class Encoded {
+        final byte[] bytes;
+        final int width;
+        final int height;
+
+        Encoded(byte[] bytes, Bitmap source) {
+            this.bytes = bytes;
+            this.width = source.getWidth();
+            this.height = source.getHeight();
+        }
+    }
+
+    /** Processing options shared by pickImage and process. */
+    private static final class Options {
+        int maxDimension;
+        int maxBytes;
+        boolean webp;
+        boolean cropSquare;
+        boolean includeBase64;
+
+        static Options from(PluginCall call) {
+            Options o = new Options();
+            o.maxDimension = Math.max(64, call.getInt("maxDimension", DEFAULT_MAX_DIMENSION));
+            o.maxBytes = Math.max(16 * 1024, call.getInt("maxBytes", DEFAULT_MAX_BYTES));
+            o.webp = "webp".equals(call.getString("format", "jpeg"));
+            o.cropSquare = call.getBoolean("cropSquare", false);
+            o.includeBase64 = call.getBoolean("includeBase64", true);
+            return o;
+        }
+    }
+
+    /**
+     * Lets the user pick or capture a photo natively ({ source: "photos" | "camera" | "prompt" }) and prepares it.
+     */
+    @PluginMethod
+    public void pickImage(PluginCall call) {
+        Activity activity = getActivity();
+        if (activity == null) {
+            call.reject("Activity is null");
+            return;
+        }
+        String source = call.getString("source", "prompt");
+        try {
+            Intent pick = new Intent(Intent.ACTION_GET_CONTENT);
+            pick.setType("image/*");
+            pick.addCategory(Intent.CATEGORY_OPENABLE);
+
+            Intent intent;
+            if ("photos".equals(source)) {
+                // Never trust a captureUri supplied by page JS
+                call.getData().remove(CAPTURE_URI_KEY);
+                intent = pick;
+            } else {
+                Intent capture = createCaptureIntent(call);
+                if ("camera".equals(source)) {
+                    intent = capture;
+                } else {
+                    intent = Intent.createChooser(pick, null);
+                    intent.putExtra(Intent.EXTRA_INITIAL_INTENTS, new Intent[] { capture });
+                }
+            }
+            startActivityForResult(call, intent, "pickImageResult");
+        } catch (Exception e) {
+            Log.e(TAG, "Error opening image picker: " + e.getMessage());
+            call.reject("Error opening image picker: " + e.getMessage());
+        }
+    }
+
+    private Intent createCaptureIntent(PluginCall call) throws Exception {
+        File file = new File(cacheDir(), "capture-" + System.currentTimeMillis() + ".jpg");
+        Uri captureUri = FileProvider.getUriForFile(getContext(), getContext().getPackageName() + ".fileprovider", file);
+        call.getData().put(CAPTURE_URI_KEY, captureUri.toString());
+        Intent capture = new Intent(MediaStore.ACTION_IMAGE_CAPTURE);
+        capture.putExtra(MediaStore.EXTRA_OUTPUT, captureUri);
+        // ClipData carries the URI grant through the chooser to the camera app
+        capture.setClipData(ClipData.newRawUri("", captureUri));
+        capture.addFlags(Intent.FLAG_GRANT_WRITE_URI_PERMISSION | Intent.FLAG_GRANT_READ_URI_PERMISSION);
+        return capture;
+    }
+
+    @ActivityCallback
+    private void pickImageResult(PluginCall call, ActivityResult result) {
+        if (call == null) {
+            return;
+        }
+        if (result.getResultCode() != Activity.RESULT_OK) {
+            JSObject cancelled = new JSObject();
+            cancelled.put("cancelled", true);
+            call.resolve(cancelled);
+            return;
+        }
+        Intent data = result.getData();
+        String captureUri = call.getString(CAPTURE_URI_KEY);
+        Uri uri = data != null && data.getData() != null ? data.getData() : captureUri != null ? Uri.parse(captureUri) : null;
+        if (uri == null) {
+            call.reject("No image returned");
+            return;
+        }
+        prepareAsync(call, uri);
+    }
+
+    /**
+     * Prepares an image already on the device: { uri } (content:// or file://) or { path }.
+     */
+    @PluginMethod
+    public void process(PluginCall call) {
+        String uri = call.getString("uri");
+        String path = call.getString("path");
+        if (uri == null && path == null) {
+            call.reject("uri or path is required");
+            return;
+        }
+        Uri source = uri != null ? Uri.parse(uri) : Uri.fromFile(new File(path));
+        if ("file".equals(source.getScheme()) && !isAppCacheFile(source)) {
+            // Page JS comes from the remote site; do not let it read arbitrary local files
+            call.reject("Only files in the app cache can be processed");
+            return;
+        }
+        prepareAsync(call, source);
+    }
+
+    private boolean isAppCacheFile(Uri uri) {
+        try {
+            String target = new File(uri.getPath()).getCanonicalPath();
+            return target.startsWith(getContext().getCacheDir().getCanonicalPath() + File.separator);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void prepareAsync(PluginCall call, Uri uri) {
+        Options options = Options.from(call);
+        executor.execute(() -> {
+            try {
+                call.resolve(prepare(uri, options));
+            } catch (OutOfMemoryError e) {
+                Log.e(TAG, "Out of memory preparing image");
+                call.reject("Image too large to process");
+            } catch (Exception e) {
+                Log.e(TAG, "Error preparing image: " + e.getMessage());
+                call.reject("Error preparing image: " + e.getMessage());
+            }
+        });
+    }
+
+    private JSObject prepare(Uri uri, Options options) throws Exception {
+        long start = SystemClock.elapsedRealtime();
+        ContentResolver resolver = getContext().getContentResolver();
+
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        try (InputStream in = resolver.openInputStream(uri)) {
+            BitmapFactory.decodeStream(in, null, bounds);
+        }
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            throw new Exception("Unsupported image");
+        }
+
+        // Power-of-two downsampling in the decoder; the exact size is reached with the matrix below
+        int longEdge = Math.max(bounds.outWidth, bounds.outHeight);
+        int sampleSize = 1;
+        while (longEdge / (sampleSize * 2) >= options.maxDimension) {
+            sampleSize *= 2;
+        }
+        BitmapFactory.Options decode = new BitmapFactory.Options();
+        decode.inSampleSize = sampleSize;
+        Bitmap decoded;
+        try (InputStream in = resolver.openInputStream(uri)) {
+            decoded = BitmapFactory.decodeStream(in, null, decode);
+        }
+        if (decoded == null) {
+            throw new Exception("Could not decode image");
+        }
+
+        int orientation = ExifInterface.ORIENTATION_NORMAL;
+        try (InputStream in = resolver.openInputStream(uri)) {
+            if (in != null) {
+                orientation = new ExifInterface(in).getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
+            }
+        } catch (Exception e) {
+            Log.d(TAG, "No EXIF orientation: " + e.getMessage());
+        }
+
+        int cropX = 0;
+        int cropY = 0;
+        int cropW = decoded.getWidth();
+        int cropH = decoded.getHeight();
+        if (options.cropSquare) {
+            int side = Math.min(cropW, cropH);
+            cropX = (cropW - side) / 2;
+            cropY = (cropH - side) / 2;
+            cropW = side;
+            cropH = side;
+        }
+        float scale = Math.min(1f, (float) options.maxDimension / Math.max(cropW, cropH));
+        Matrix matrix = new Matrix();
+        matrix.setScale(scale, scale);
+        applyOrientation(matrix, orientation);
+
+        Bitmap bitmap = Bitmap.createBitmap(decoded, cropX, cropY, cropW, cropH, matrix, true);
+        if (bitmap != decoded) {
+            decoded.recycle();
+        }
+
+        Encoded prepared = encodeWithinBudget(bitmap, options);
+        byte[] encoded = prepared.bytes;
+        int width = prepared.width;
+        int height = prepared.height;
+        bitmap.recycle();
+
+        File dir = cacheDir();
+        pruneCache(dir);
+        File out = new File(dir, "prep-" + System.currentTimeMillis() + (options.webp ? ".webp" : ".jpg"));
+        try (FileOutputStream fos = new FileOutputStream(out)) {
+            fos.write(encoded);
+        }
+
+        JSObject result = new JSObject();
+        result.put("path", out.getAbsolutePath());
+        result.put("mimeType", options.webp ? "image/webp" : "image/jpeg");
+        result.put("width", width);
+        result.put("height", height);
+        result.put("bytes", encoded.length);
+        result.put("originalWidth", bounds.outWidth);
+        result.put("originalHeight", bounds.outHeight);
+        result.put("sourceKey", sourceKey(resolver, uri));
+        if (options.includeBase64) {
+            result.put("base64", Base64.encodeToString(encoded, Base64.NO_WRAP));
+        }
+        result.put("tookMs", SystemClock.elapsedRealtime() - start);
+        Log.d(TAG, "Prepared " + bounds.outWidth + "x" + bounds.outHeight + " -> " + width + "x" + height + ", " + encoded.length + " bytes");
+        return result;
+    }
+
+    private static void applyOrientation(Matrix matrix, int orientation) {
+        switch (orientation) {
+            case ExifInterface.ORIENTATION_ROTATE_90:
+                matrix.postRotate(90);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_180:
+                matrix.postRotate(180);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_270:
+                matrix.postRotate(270);
+                break;
+            case ExifInterface.ORIENTATION_FLIP_HORIZONTAL:
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_FLIP_VERTICAL:
+                matrix.postScale(1, -1);
+                break;
+            case ExifInterface.ORIENTATION_TRANSPOSE:
+                matrix.postRotate(90);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_TRANSVERSE:
+                matrix.postRotate(270);
+                matrix.postScale(-1, 1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Highest quality that fits maxBytes (binary search); if even MIN_QUALITY is too big, shrink and retry.
+     */
+    private static Encoded encodeWithinBudget(Bitmap bitmap, Options options) {
+        Bitmap current = bitmap;
+        Encoded smallest = null;
+        for (int attempt = 0; attempt <= MAX_DOWNSCALE_ATTEMPTS; attempt++) {
+            byte[] best = encode(current, MAX_QUALITY, options.webp);
+            if (best.length > options.maxBytes) {
+                best = null;
+                int lo = MIN_QUALITY;
+                int hi = MAX_QUALITY - 1;
+                while (lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    byte[] bytes = encode(current, mid, options.webp);
+                    if (bytes.length <= options.maxBytes) {
+                        best = bytes;
+                        lo = mid + 1;
+                    } else {
+                        hi = mid - 1;
+                        if (smallest == null || bytes.length < smallest.bytes.length) {
+                            smallest = new Encoded(bytes, current);
+                        }
+                    }
+                }
+            }
+            if (best != null) {
+                Encoded encoded = new Encoded(best, current);
+                if (current != bitmap) {
+                    current.recycle();
+                }
+                return encoded;
+            }
+            Bitmap scaled = Bitmap.createScaledBitmap(current, Math.max(1, current.getWidth() * 3 / 4), Math.max(1, current.getHeight() * 3 / 4), true);
+            if (current != bitmap) {
+                current.recycle();
+            }
+            current = scaled;
+        }
+        if (current != bitmap) {
+            current.recycle();
+        }
+        return smallest;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static byte[] encode(Bitmap bitmap, int quality, boolean webp) {
+        Bitmap.CompressFormat format;
+        if (!webp) {
+            format = Bitmap.CompressFormat.JPEG;
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            format = Bitmap.CompressFormat.WEBP_LOSSY;
+        } else {
+            format = Bitmap.CompressFormat.WEBP;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bitmap.compress(format, quality, out);
+        return out.toByteArray();
+    }
+
+    /** Stable key for the picked source (name + size), used by JS for caching readings. */
+    private static String sourceKey(ContentResolver resolver, Uri uri) {
+        if ("content".equals(uri.getScheme())) {
+            try (Cursor cursor = resolver.query(uri, new String[] { OpenableColumns.DISPLAY_NAME, OpenableColumns.SIZE }, null, null, null)) {
+                if (cursor != null && cursor.moveToFirst()) {
+                    return cursor.getString(0) + cursor.getLong(1);
+                }
+            } catch (Exception e) {
+                Log.d(TAG, "Could not query source metadata: " + e.getMessage());
+            }
+        }
+        if ("file".equals(uri.getScheme()) && uri.getPath() != null) {
+            File file = new File(uri.getPath());
+            return file.getName() + file.length();
+        }
+        return uri.toString();
+    }
+
+    private File cacheDir() {
+        File dir = new File(getContext().getCacheDir(), CACHE_DIR);
+        if (!dir.exists() && !dir.mkdirs()) {
+            Log.e(TAG, "Could not create " + dir);
+        }
+        return dir;
+    }
+
+    private static void pruneCache(File dir) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - CACHE_MAX_AGE_MS;
+        for (File f : files) {
+            if (f.lastModified() < cutoff && !f.delete()) {
+                Log.d(TAG, "Could not delete " + f.getName());
+            }
+        }
+    }
+
+    @Override
+    public void handleOnDestroy() {
+        super.handleOnDestroy();
+        executor.shutdownNow();
+    }
+}
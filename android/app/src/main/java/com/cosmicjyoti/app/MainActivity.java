@@ -1,16 +1,38 @@
 package com.cosmicjyoti.app;
 
 import android.os.Bundle;
+import android.os.SystemClock;
 import com.getcapacitor.BridgeActivity;
+import com.getcapacitor.Plugin;
 
 public class MainActivity extends BridgeActivity {
     @Override
     public void onCreate(Bundle savedInstanceState) {
+        // Parse the app link before the bridge starts so the WebView can go straight to the target page
+        String deepLinkRoute = savedInstanceState == null ? DeepLinkPlugin.parseRoute(getIntent()) : null;
+        if (deepLinkRoute != null) {
+            DeepLinkPlugin.queueColdStart(getIntent(), deepLinkRoute, SystemClock.elapsedRealtime());
+        }
+        registerPluginSafely(AdMobPlugin.class);
+        registerPluginSafely(NetworkQualityPlugin.class);
+        registerPluginSafely(DeepLinkPlugin.class);
+        registerPluginSafely(PrefetchPlugin.class);
+        registerPluginSafely(BlogSearchPlugin.class);
+        registerPluginSafely(ImagePrepPlugin.class);
+        super.onCreate(savedInstanceState);
+        if (deepLinkRoute != null && !"/".equals(deepLinkRoute) && bridge != null && bridge.getWebView() != null) {
+            // Supersedes the start URL load queued by the bridge in this same main-thread turn,
+            // so the home page is never fetched and rendered before JS routes to the link
+            bridge.getWebView().loadUrl(DeepLinkPlugin.resolveUrl(bridge.getAppUrl(), deepLinkRoute));
+        }
+    }
+
+    /** Registers one plugin so a failure cannot stop the others (AdMob in particular) from registering. */
+    private void registerPluginSafely(Class<? extends Plugin> plugin) {
         try {
-            registerPlugin(AdMobPlugin.class);
+            registerPlugin(plugin);
         } catch (Throwable t) {
             // Ignore - plugin may auto-discover
         }
-        super.onCreate(savedInstanceState);
     }
 }
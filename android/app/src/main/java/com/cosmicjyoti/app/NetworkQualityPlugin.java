@@ -0,0 +1,189 @@
+package com.cosmicjyoti.app;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.net.NetworkRequest;
+import android.os.Build;
+import android.util.Log;
+import com.getcapacitor.JSObject;
+import com.getcapacitor.Plugin;
+import com.getcapacitor.PluginCall;
+import com.getcapacitor.PluginMethod;
+import com.getcapacitor.annotation.CapacitorPlugin;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes connectivity changes (transport, metered, bandwidth estimate) to JS using
+ * ConnectivityManager.NetworkCallback instead of polling or browser online/offline events.
+ * The latest snapshot is also readable natively so other plugins (AdMob) can back off on poor links.
+ */
+@CapacitorPlugin(name = "NetworkQuality")
+public class NetworkQualityPlugin extends Plugin {
+
+    private static final String TAG = "NetworkQualityPlugin";
+    private static final String EVENT_CHANGE = "networkStatusChange";
+    /** Downstream estimate below this is treated as a slow link. */
+    private static final int SLOW_LINK_KBPS = 1500;
+
+    private static volatile boolean connected = true;
+    private static volatile boolean metered = false;
+    private static volatile String transport = "unknown";
+    private static volatile int downKbps = 0;
+    private static volatile int upKbps = 0;
+    /** Run (on the connectivity thread) when the link goes from constrained to unconstrained. */
+    private static final List<Runnable> unconstrainedListeners = new CopyOnWriteArrayList<>();
+
+    private ConnectivityManager connectivityManager;
+    private ConnectivityManager.NetworkCallback networkCallback;
+
+    @Override
+    public void load() {
+        super.load();
+        try {
+            startMonitoring();
+        } catch (Exception e) {
+            Log.e(TAG, "Network monitoring failed to start (non-fatal): " + e.getMessage());
+        }
+    }
+
+    private void startMonitoring() {
+        connectivityManager = (ConnectivityManager) getContext().getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (connectivityManager == null) {
+            Log.e(TAG, "ConnectivityManager unavailable");
+            return;
+        }
+
+        Network active = Build.VERSION.SDK_INT >= Build.VERSION_CODES.M ? connectivityManager.getActiveNetwork() : null;
+        if (active != null) {
+            update(connectivityManager.getNetworkCapabilities(active));
+        }
+
+        networkCallback = new ConnectivityManager.NetworkCallback() {
+            @Override
+            public void onCapabilitiesChanged(Network network, NetworkCapabilities capabilities) {
+                update(capabilities);
+            }
+
+            @Override
+            public void onLost(Network network) {
+                boolean wasConstrained = isConstrained();
+                connected = false;
+                transport = "none";
+                downKbps = 0;
+                upKbps = 0;
+                publish();
+                notifyIfUnconstrained(wasConstrained);
+            }
+        };
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            connectivityManager.registerDefaultNetworkCallback(networkCallback);
+        } else {
+            NetworkRequest request = new NetworkRequest.Builder()
+                .addCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+                .build();
+            connectivityManager.registerNetworkCallback(request, networkCallback);
+        }
+    }
+
+    private void update(NetworkCapabilities capabilities) {
+        if (capabilities == null) {
+            return;
+        }
+        boolean wasConstrained = isConstrained();
+        connected = capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
+        metered = !capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED);
+        transport = transportOf(capabilities);
+        downKbps = capabilities.getLinkDownstreamBandwidthKbps();
+        upKbps = capabilities.getLinkUpstreamBandwidthKbps();
+        publish();
+        notifyIfUnconstrained(wasConstrained);
+    }
+
+    private static void notifyIfUnconstrained(boolean wasConstrained) {
+        if (!wasConstrained || isConstrained()) {
+            return;
+        }
+        for (Runnable listener : unconstrainedListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                Log.e(TAG, "Unconstrained listener failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Registers work deferred on a constrained link (e.g. ad preloads) to be resumed once it is unconstrained.
+     */
+    static void addUnconstrainedListener(Runnable listener) {
+        unconstrainedListeners.add(listener);
+    }
+
+    static void removeUnconstrainedListener(Runnable listener) {
+        unconstrainedListeners.remove(listener);
+    }
+
+    private static String transportOf(NetworkCapabilities capabilities) {
+        if (capabilities.hasTransport(NetworkCapabilities.TRANSPORT_WIFI)) return "wifi";
+        if (capabilities.hasTransport(NetworkCapabilities.TRANSPORT_CELLULAR)) return "cellular";
+        if (capabilities.hasTransport(NetworkCapabilities.TRANSPORT_ETHERNET)) return "ethernet";
+        if (capabilities.hasTransport(NetworkCapabilities.TRANSPORT_VPN)) return "vpn";
+        if (capabilities.hasTransport(NetworkCapabilities.TRANSPORT_BLUETOOTH)) return "bluetooth";
+        return "unknown";
+    }
+
+    private void publish() {
+        notifyListeners(EVENT_CHANGE, snapshot());
+    }
+
+    private static JSObject snapshot() {
+        JSObject status = new JSObject();
+        status.put("connected", connected);
+        status.put("transport", transport);
+        status.put("metered", metered);
+        status.put("downlinkKbps", downKbps);
+        status.put("uplinkKbps", upKbps);
+        status.put("slow", isSlow());
+        status.put("constrained", isConstrained());
+        return status;
+    }
+
+    private static boolean isSlow() {
+        // 0 means the platform has no estimate yet; do not treat that as slow
+        return downKbps > 0 && downKbps < SLOW_LINK_KBPS;
+    }
+
+    static boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * True when the current link is offline, metered or slow, i.e. optional heavy loads
+     * (native/media ads, preloads) should be deferred.
+     */
+    static boolean isConstrained() {
+        return !connected || metered || isSlow();
+    }
+
+    @PluginMethod
+    public void getStatus(PluginCall call) {
+        call.resolve(snapshot());
+    }
+
+    @Override
+    public void handleOnDestroy() {
+        super.handleOnDestroy();
+        if (connectivityManager != null && networkCallback != null) {
+            try {
+                connectivityManager.unregisterNetworkCallback(networkCallback);
+            } catch (Exception e) {
+                Log.e(TAG, "Failed to unregister network callback: " + e.getMessage());
+            }
+            networkCallback = null;
+        }
+    }
+}
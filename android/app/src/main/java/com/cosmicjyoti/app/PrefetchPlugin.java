@@ -0,0 +1,435 @@
+package com.cosmicjyoti.app;
+
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.BatteryManager;
+import android.os.PowerManager;
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.LruCache;
+import com.getcapacitor.JSArray;
+import com.getcapacitor.JSObject;
+import com.getcapacitor.Plugin;
+import com.getcapacitor.PluginCall;
+import com.getcapacitor.PluginMethod;
+import com.getcapacitor.annotation.CapacitorPlugin;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.json.JSONObject;
+
+/**
+ * Predictive prefetch of next-screen data hinted by JS (e.g. profile -> kundali -> daily -> blog).
+ * Hints run on a small bounded priority queue; low-priority work is skipped on constrained
+ * networks (see NetworkQualityPlugin) and in battery saver. Responses land in an in-memory
+ * cache that PrefetchWebViewClient serves to the WebView for matching GET requests.
+ * Responses over the hint's byte budget are never cached, and their URLs are not fetched again
+ * this session. Requests that opt out of caching (fetch cache: 'no-store') are only served within
+ * the hint's uncachedMaxAgeSeconds (default 0, i.e. never).
+ */
+@CapacitorPlugin(name = "Prefetch")
+public class PrefetchPlugin extends Plugin {
+
+    private static final String TAG = "PrefetchPlugin";
+    static final int PRIORITY_LOW = 0;
+    static final int PRIORITY_NORMAL = 1;
+    static final int PRIORITY_HIGH = 2;
+    private static final int WORKERS = 2;
+    private static final int MAX_QUEUED = 24;
+    private static final int DEFAULT_MAX_BYTES = 512 * 1024;
+    private static final int CACHE_BYTES = 4 * 1024 * 1024;
+    private static final int DEFAULT_MAX_AGE_SECONDS = 300;
+    private static final int TIMEOUT_MS = 10000;
+    private static final int LOW_BATTERY_PERCENT = 15;
+
+    private static final LruCache<String, Entry> cache = new LruCache<String, Entry>(CACHE_BYTES) {
+        @Override
+        protected int sizeOf(String key, Entry value) {
+            return value.body.length;
+        }
+    };
+    /** URLs whose response exceeded the hint's byte budget; re-hints are skipped instead of downloading again. */
+    private static final Set<String> oversized = Collections.synchronizedSet(new HashSet<>());
+
+    private final PriorityBlockingQueue<Runnable> queue = new PriorityBlockingQueue<>();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(WORKERS, WORKERS, 30, TimeUnit.SECONDS, queue);
+    private final Map<String, Task> tasks = new HashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** Cached response, served to the WebView until it expires. */
+    static final class Entry {
+        final byte[] body;
+        final String mimeType;
+        final String encoding;
+        final Map<String, String> headers;
+        final long expiresAt;
+        /** Until when requests that opt out of caching may still be served this entry. */
+        final long uncachedExpiresAt;
+
+        Entry(byte[] body, String mimeType, String encoding, Map<String, String> headers, long expiresAt, long uncachedExpiresAt) {
+            this.body = body;
+            this.mimeType = mimeType;
+            this.encoding = encoding;
+            this.headers = headers;
+            this.expiresAt = expiresAt;
+            this.uncachedExpiresAt = uncachedExpiresAt;
+        }
+
+        boolean servesUncached() {
+            return SystemClock.elapsedRealtime() <= uncachedExpiresAt;
+        }
+    }
+
+    private final class Task implements Runnable, Comparable<Task> {
+        final String url;
+        final String tag;
+        final int maxAgeSeconds;
+        final int uncachedMaxAgeSeconds;
+        final int maxBytes;
+        final long seq = sequence.incrementAndGet();
+        volatile int priority;
+        volatile boolean cancelled;
+        volatile HttpURLConnection connection;
+
+        Task(String url, String tag, int priority, int maxAgeSeconds, int uncachedMaxAgeSeconds, int maxBytes) {
+            this.url = url;
+            this.tag = tag;
+            this.priority = priority;
+            this.maxAgeSeconds = maxAgeSeconds;
+            this.uncachedMaxAgeSeconds = Math.min(uncachedMaxAgeSeconds, maxAgeSeconds);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            // Higher priority first, then FIFO
+            if (priority != other.priority) {
+                return Integer.compare(other.priority, priority);
+            }
+            return Long.compare(seq, other.seq);
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!cancelled && shouldRun(priority)) {
+                    fetch(this);
+                }
+            } catch (Exception e) {
+                Log.d(TAG, "Prefetch failed for " + url + ": " + e.getMessage());
+            } finally {
+                synchronized (tasks) {
+                    if (tasks.get(url) == this) {
+                        tasks.remove(url);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void load() {
+        super.load();
+        executor.allowCoreThreadTimeOut(true);
+        try {
+            getBridge().setWebViewClient(new PrefetchWebViewClient(getBridge()));
+        } catch (Exception e) {
+            Log.e(TAG, "Prefetch WebView client not installed (non-fatal): " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the cached response for a URL if it is still fresh, otherwise null.
+     */
+    static Entry lookup(String url) {
+        Entry entry = cache.get(url);
+        if (entry == null) {
+            return null;
+        }
+        if (SystemClock.elapsedRealtime() > entry.expiresAt) {
+            cache.remove(url);
+            return null;
+        }
+        return entry;
+    }
+
+    private static int parsePriority(String value) {
+        if ("high".equals(value)) return PRIORITY_HIGH;
+        if ("low".equals(value)) return PRIORITY_LOW;
+        return PRIORITY_NORMAL;
+    }
+
+    /**
+     * Only high-priority hints run on constrained (metered/slow) links, in battery saver or on low battery.
+     */
+    private boolean shouldRun(int priority) {
+        if (!NetworkQualityPlugin.isConnected()) {
+            return false;
+        }
+        if (priority == PRIORITY_HIGH) {
+            return true;
+        }
+        return !NetworkQualityPlugin.isConstrained() && !isBatteryConstrained();
+    }
+
+    private boolean isBatteryConstrained() {
+        Context context = getContext();
+        PowerManager powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+        if (powerManager != null && powerManager.isPowerSaveMode()) {
+            return true;
+        }
+        Intent battery = context.registerReceiver(null, new IntentFilter(Intent.ACTION_BATTERY_CHANGED));
+        if (battery == null) {
+            return false;
+        }
+        int status = battery.getIntExtra(BatteryManager.EXTRA_STATUS, -1);
+        boolean charging = status == BatteryManager.BATTERY_STATUS_CHARGING || status == BatteryManager.BATTERY_STATUS_FULL;
+        int level = battery.getIntExtra(BatteryManager.EXTRA_LEVEL, -1);
+        int scale = battery.getIntExtra(BatteryManager.EXTRA_SCALE, -1);
+        return !charging && level >= 0 && scale > 0 && level * 100 / scale < LOW_BATTERY_PERCENT;
+    }
+
+    private void fetch(Task task) throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL(task.url).openConnection();
+        task.connection = connection;
+        try {
+            connection.setConnectTimeout(TIMEOUT_MS);
+            connection.setReadTimeout(TIMEOUT_MS);
+            connection.setRequestProperty("Accept", "application/json, text/*;q=0.9, */*;q=0.5");
+            if (task.cancelled || connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                return;
+            }
+            int length = connection.getContentLength();
+            if (length > task.maxBytes) {
+                oversized.add(task.url);
+                Log.d(TAG, "Not prefetching " + task.url + ": " + length + " bytes exceeds " + task.maxBytes);
+                return;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length > 0 ? length : 8192);
+            try (InputStream in = connection.getInputStream()) {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (task.cancelled) {
+                        return;
+                    }
+                    if (out.size() + read > task.maxBytes) {
+                        // Compressed responses hide Content-Length; do not download this again
+                        oversized.add(task.url);
+                        Log.d(TAG, "Not prefetching " + task.url + ": exceeds " + task.maxBytes + " bytes");
+                        return;
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            Map<String, String> headers = new HashMap<>();
+            for (Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+                if (header.getKey() != null && !header.getValue().isEmpty()) {
+                    headers.put(header.getKey(), header.getValue().get(0));
+                }
+            }
+            // Body is already decoded; stale framing headers would confuse the WebView
+            headers.remove("Content-Length");
+            headers.remove("Content-Encoding");
+            headers.remove("Transfer-Encoding");
+
+            String mimeType = "application/octet-stream";
+            String encoding = null;
+            String contentType = connection.getContentType();
+            if (contentType != null) {
+                String[] parts = contentType.split(";");
+                mimeType = parts[0].trim();
+                for (int i = 1; i < parts.length; i++) {
+                    String part = parts[i].trim();
+                    if (part.toLowerCase().startsWith("charset=")) {
+                        encoding = part.substring("charset=".length());
+                    }
+                }
+            }
+
+            long now = SystemClock.elapsedRealtime();
+            long expiresAt = now + task.maxAgeSeconds * 1000L;
+            long uncachedExpiresAt = now + task.uncachedMaxAgeSeconds * 1000L;
+            cache.put(task.url, new Entry(out.toByteArray(), mimeType, encoding, headers, expiresAt, uncachedExpiresAt));
+            Log.d(TAG, "Prefetched " + task.url + " (" + out.size() + " bytes)");
+        } finally {
+            task.connection = null;
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Queues hints: { hints: [{ url, priority?: "high"|"normal"|"low", tag?, maxAgeSeconds?,
+     * uncachedMaxAgeSeconds?, maxBytes? }] }. maxBytes (default 512 KB, at most the cache size) is the
+     * largest response worth caching. Re-hinting a queued URL updates its priority instead of queueing it twice.
+     */
+    @PluginMethod
+    public void prefetch(PluginCall call) {
+        JSArray hints = call.getArray("hints");
+        if (hints == null) {
+            call.reject("hints is required");
+            return;
+        }
+
+        int queued = 0;
+        int skipped = 0;
+        try {
+            for (int i = 0; i < hints.length(); i++) {
+                JSONObject hint = hints.getJSONObject(i);
+                String url = hint.optString("url", "");
+                if (!url.startsWith("https://") && !url.startsWith("http://")) {
+                    skipped++;
+                    continue;
+                }
+                int priority = parsePriority(hint.optString("priority", "normal"));
+                if (lookup(url) != null || oversized.contains(url) || !shouldRun(priority)) {
+                    skipped++;
+                    continue;
+                }
+                int maxAgeSeconds = hint.optInt("maxAgeSeconds", DEFAULT_MAX_AGE_SECONDS);
+                int uncachedMaxAgeSeconds = Math.max(0, hint.optInt("uncachedMaxAgeSeconds", 0));
+                int maxBytes = Math.min(CACHE_BYTES, Math.max(1, hint.optInt("maxBytes", DEFAULT_MAX_BYTES)));
+                if (enqueue(url, hint.optString("tag", ""), priority, maxAgeSeconds, uncachedMaxAgeSeconds, maxBytes)) {
+                    queued++;
+                } else {
+                    skipped++;
+                }
+            }
+        } catch (Exception e) {
+            call.reject("Invalid prefetch hints: " + e.getMessage());
+            return;
+        }
+
+        JSObject result = new JSObject();
+        result.put("queued", queued);
+        result.put("skipped", skipped);
+        call.resolve(result);
+    }
+
+    private boolean enqueue(String url, String tag, int priority, int maxAgeSeconds, int uncachedMaxAgeSeconds, int maxBytes) {
+        synchronized (tasks) {
+            Task existing = tasks.get(url);
+            if (existing != null) {
+                if (existing.priority != priority && queue.remove(existing)) {
+                    existing.priority = priority;
+                    queue.add(existing);
+                }
+                return true;
+            }
+
+            if (queue.size() >= MAX_QUEUED && !evictLowerThan(priority)) {
+                return false;
+            }
+            Task task = new Task(url, tag, priority, maxAgeSeconds, uncachedMaxAgeSeconds, maxBytes);
+            tasks.put(url, task);
+            executor.execute(task);
+            return true;
+        }
+    }
+
+    /** Drops the lowest-priority queued task if it ranks below the given priority. */
+    private boolean evictLowerThan(int priority) {
+        Task lowest = null;
+        for (Runnable runnable : queue) {
+            Task task = (Task) runnable;
+            if (lowest == null || task.compareTo(lowest) > 0) {
+                lowest = task;
+            }
+        }
+        if (lowest == null || lowest.priority >= priority || !queue.remove(lowest)) {
+            return false;
+        }
+        lowest.cancelled = true;
+        tasks.remove(lowest.url);
+        return true;
+    }
+
+    /**
+     * Cancels queued and in-flight hints: { tag } cancels that group, { urls } specific URLs, nothing cancels all.
+     * Use when the user navigates away from the path the hints predicted.
+     */
+    @PluginMethod
+    public void cancel(PluginCall call) {
+        String tag = call.getString("tag");
+        List<String> urls = null;
+        try {
+            JSArray urlArray = call.getArray("urls");
+            if (urlArray != null) {
+                urls = urlArray.toList();
+            }
+        } catch (Exception e) {
+            call.reject("Invalid urls: " + e.getMessage());
+            return;
+        }
+        int cancelled = 0;
+        synchronized (tasks) {
+            Iterator<Map.Entry<String, Task>> it = tasks.entrySet().iterator();
+            while (it.hasNext()) {
+                Task task = it.next().getValue();
+                boolean match;
+                if (tag != null) {
+                    match = tag.equals(task.tag);
+                } else if (urls != null) {
+                    match = urls.contains(task.url);
+                } else {
+                    match = true;
+                }
+                if (!match) {
+                    continue;
+                }
+                task.cancelled = true;
+                queue.remove(task);
+                // Plugin calls run off the main thread, so closing the socket here is safe
+                HttpURLConnection connection = task.connection;
+                if (connection != null) {
+                    connection.disconnect();
+                }
+                it.remove();
+                cancelled++;
+            }
+        }
+        JSObject result = new JSObject();
+        result.put("cancelled", cancelled);
+        call.resolve(result);
+    }
+
+    @PluginMethod
+    public void clearCache(PluginCall call) {
+        cache.evictAll();
+        JSObject result = new JSObject();
+        result.put("cleared", true);
+        call.resolve(result);
+    }
+
+    @PluginMethod
+    public void getStats(PluginCall call) {
+        JSObject result = new JSObject();
+        result.put("queued", queue.size());
+        result.put("active", executor.getActiveCount());
+        result.put("cachedEntries", cache.snapshot().size());
+        result.put("cachedBytes", cache.size());
+        result.put("cacheHits", cache.hitCount());
+        result.put("oversizedUrls", oversized.size());
+        call.resolve(result);
+    }
+
+    @Override
+    public void handleOnDestroy() {
+        super.handleOnDestroy();
+        executor.shutdownNow();
+    }
+}
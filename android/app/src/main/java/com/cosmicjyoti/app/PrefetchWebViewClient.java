@@ -0,0 +1,62 @@
+package com.cosmicjyoti.app;
+
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import com.getcapacitor.Bridge;
+import com.getcapacitor.BridgeWebViewClient;
+import java.io.ByteArrayInputStream;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Serves GET sub-resource requests (API/JSON fetches) from the PrefetchPlugin cache when a fresh
+ * entry exists; everything else, including page navigations, goes through Capacitor as usual.
+ * Requests that opt out of caching (fetch cache: 'no-store'/'reload'/'no-cache' send no-cache
+ * headers) are only served while the entry is within its hint's uncachedMaxAgeSeconds.
+ */
+public class PrefetchWebViewClient extends BridgeWebViewClient {
+
+    public PrefetchWebViewClient(Bridge bridge) {
+        super(bridge);
+    }
+
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+        if (!request.isForMainFrame() && "GET".equals(request.getMethod())) {
+            PrefetchPlugin.Entry entry = PrefetchPlugin.lookup(request.getUrl().toString());
+            if (entry != null && (!bypassesCache(request) || entry.servesUncached())) {
+                return new WebResourceResponse(
+                    entry.mimeType,
+                    entry.encoding,
+                    200,
+                    "OK",
+                    entry.headers,
+                    new ByteArrayInputStream(entry.body)
+                );
+            }
+        }
+        return super.shouldInterceptRequest(view, request);
+    }
+
+    private static boolean bypassesCache(WebResourceRequest request) {
+        Map<String, String> headers = request.getRequestHeaders();
+        if (headers == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey() == null || header.getValue() == null) {
+                continue;
+            }
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            String value = header.getValue().toLowerCase(Locale.ROOT);
+            if ("pragma".equals(name) && value.contains("no-cache")) {
+                return true;
+            }
+            if ("cache-control".equals(name) && (value.contains("no-cache") || value.contains("no-store") || value.contains("max-age=0"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -5,6 +5,7 @@ import AdBanner from './AdBanner';
 import { sanitizeHtml } from '../utils/sanitize';
 import { trackArticleRead } from '../utils/dataLayer';
 import { isBackendConfigured, getBackendBaseUrl } from '../services/backendService';
+import { getBlogIndexIds, isNativeBlogSearchAvailable, searchBlogIndex, syncBlogSearchIndex } from '../utils/blogSearch';
 
 const POSTS_PER_PAGE = 9;
 const STORAGE_KEY_ARTICLE_LIKES = 'cosmicjyoti_article_likes';
@@ -173,6 +174,10 @@ const DailyAIBlog: React.FC<DailyAIBlogProps> = ({ language, onBack, onTryModule
   /** Semantic search result (post ids in order). Null when not using backend or not yet fetched. */
   const [semanticPostIds, setSemanticPostIds] = useState<string[] | null>(null);
   const [semanticSearchLoading, setSemanticSearchLoading] = useState(false);
+  /** Ranked post ids from the on-device index (Android app). Null when unavailable. */
+  const [indexPostIds, setIndexPostIds] = useState<string[] | null>(null);
+  /** Posts in the native index; others (published since the last sync) fall back to keyword search. */
+  const [indexedIds, setIndexedIds] = useState<Set<string> | null>(null);
   const [likes, setLikes] = useState<Set<string>>(getStoredArticleLikes);
   const [views, setViews] = useState<Record<string, number>>(getStoredArticleViews);
 
@@ -228,10 +233,44 @@ const DailyAIBlog: React.FC<DailyAIBlogProps> = ({ language, onBack, onTryModule
     }
   }, []);
 
+  // Pick up newly published posts in the on-device search index
+  useEffect(() => {
+    if (!isNativeBlogSearchAvailable()) return;
+    let cancelled = false;
+    getBlogIndexIds().then((ids) => {
+      if (!cancelled) setIndexedIds(ids);
+    });
+    syncBlogSearchIndex()
+      .then(() => getBlogIndexIds())
+      .then((ids) => {
+        if (!cancelled) setIndexedIds(ids);
+      });
+    return () => {
+      cancelled = true;
+    };
+  }, []);
+
+  // On-device ranked search (offline, no backend round trip) when running in the app
+  useEffect(() => {
+    const q = searchQuery.trim();
+    if (!q || !isNativeBlogSearchAvailable()) {
+      setIndexPostIds(null);
+      return;
+    }
+    let cancelled = false;
+    // No limit: the topic filter and pagination apply to the full ranked list, like keyword search
+    searchBlogIndex(q, 0).then((ids) => {
+      if (!cancelled) setIndexPostIds(ids);
+    });
+    return () => {
+      cancelled = true;
+    };
+  }, [searchQuery]);
+
   // Semantic search when backend is configured and user has typed a query
   useEffect(() => {
     const q = searchQuery.trim();
-    if (!q || !isBackendConfigured() || !data?.posts?.length) {
+    if (!q || isNativeBlogSearchAvailable() || !isBackendConfigured() || !data?.posts?.length) {
       setSemanticPostIds(null);
       return;
     }
@@ -263,7 +302,20 @@ const DailyAIBlog: React.FC<DailyAIBlogProps> = ({ language, onBack, onTryModule
     const q = searchQuery.trim().toLowerCase();
     const useSemantic = q && semanticPostIds && semanticPostIds.length > 0;
     let list: DailyPost[];
-    if (useSemantic) {
+    if (q && indexPostIds) {
+      const byId = new Map(data.posts.map((p) => [p.articleId || p.id || '', p]));
+      list = indexPostIds.map((id) => byId.get(id)).filter((p): p is DailyPost => !!p);
+      // Posts not in the index yet (stale seed or failed sync) are keyword-matched and appended
+      const ranked = new Set(indexPostIds);
+      const unindexed = data.posts
+        .filter((p) => {
+          const id = p.articleId || p.id || '';
+          return !ranked.has(id) && !indexedIds?.has(id);
+        })
+        .filter((p) => relevanceScore(p, searchQuery) > 0)
+        .sort((a, b) => relevanceScore(b, searchQuery) - relevanceScore(a, searchQuery));
+      list = [...list, ...unindexed];
+    } else if (useSemantic) {
       const idSet = new Set(semanticPostIds);
       list = semanticPostIds
         .map((id) => data.posts.find((p) => (p.articleId || p.id) === id))
@@ -287,7 +339,7 @@ const DailyAIBlog: React.FC<DailyAIBlogProps> = ({ language, onBack, onTryModule
       });
     }
     return list;
-  }, [data?.posts, searchQuery, topicFilter, semanticPostIds]);
+  }, [data?.posts, searchQuery, topicFilter, semanticPostIds, indexPostIds, indexedIds]);
 
   const totalPages = Math.max(1, Math.ceil(filteredAndSorted.length / POSTS_PER_PAGE));
   const paginatedPosts = useMemo(() => {
@@ -12,6 +12,7 @@ import RichText from './RichText';
 import { ModuleIntro, SaveShareBar } from './common';
 import { getCachedAI, setCachedAI } from '../utils/aiCacheService';
 import { saveReport, getReportByForm, deleteReport } from '../utils/reportStorageService';
+import { isNativeImagePrepAvailable, pickPreparedImage, PreparedImage } from '../utils/nativeImage';
 
 interface FaceReadingProps {
   language: Language;
@@ -20,24 +21,27 @@ interface FaceReadingProps {
 const FaceReading: React.FC<FaceReadingProps> = ({ language }) => {
   const t = useTranslation(language);
   const [imageFile, setImageFile] = useState<File | null>(null);
+  /** Photo picked and downscaled natively (Android app); replaces imageFile there */
+  const [preparedImage, setPreparedImage] = useState<PreparedImage | null>(null);
   const [previewUrl, setPreviewUrl] = useState<string | null>(null);
   const [reading, setReading] = useState<string | null>(null);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const [isSaved, setIsSaved] = useState(false);
   const [savedReportId, setSavedReportId] = useState<string | null>(null);
+  const imageKey = imageFile ? `${imageFile.name}-${imageFile.size}` : preparedImage?.sourceKey ?? null;
 
   useEffect(() => {
     if (reading) requestScrollToMain();
   }, [reading]);
 
   useEffect(() => {
-    if (!reading || !imageFile) {
+    if (!reading || !imageKey) {
       setIsSaved(false);
       setSavedReportId(null);
       return;
     }
-    const key = `face-${imageFile.name}-${imageFile.size}-${language}`;
+    const key = `face-${imageKey}-${language}`;
     const fi = { key, lang: language };
     const sr = getReportByForm('face', fi);
     if (sr?.meta?.id) {
@@ -47,7 +51,7 @@ const FaceReading: React.FC<FaceReadingProps> = ({ language }) => {
       setIsSaved(false);
       setSavedReportId(null);
     }
-  }, [reading, imageFile, language]);
+  }, [reading, imageKey, language]);
 
   const handleFileChange = (e: React.ChangeEvent<HTMLInputElement>) => {
     if (e.target.files && e.target.files[0]) {
@@ -57,6 +61,7 @@ const FaceReading: React.FC<FaceReadingProps> = ({ language }) => {
         return;
       }
       setImageFile(file);
+      setPreparedImage(null);
       setPreviewUrl(URL.createObjectURL(file));
       setReading(null);
       setError(null);
@@ -82,9 +87,26 @@ const FaceReading: React.FC<FaceReadingProps> = ({ language }) => {
     return 'image/jpeg';
   };
 
+  // In the app, pick natively so the full-size photo never enters the WebView as a base64 string
+  const handleNativePick = async (e: React.MouseEvent) => {
+    if (!isNativeImagePrepAvailable()) return;
+    e.preventDefault();
+    try {
+      const prepared = await pickPreparedImage();
+      if (!prepared) return;
+      setPreparedImage(prepared);
+      setImageFile(null);
+      setPreviewUrl(prepared.previewUrl);
+      setReading(null);
+      setError(null);
+    } catch (err) {
+      setErrorSafely(setError, err, language, 'FaceReading');
+    }
+  };
+
   const handleAnalyze = async () => {
-    if (!imageFile) return;
-    const cacheKey = `face-${imageFile.name}-${imageFile.size}-${language}`;
+    if (!imageKey) return;
+    const cacheKey = `face-${imageKey}-${language}`;
     const cached = getCachedAI<string>('face', { key: cacheKey });
     if (cached) {
       setReading(cached);
@@ -93,8 +115,8 @@ const FaceReading: React.FC<FaceReadingProps> = ({ language }) => {
     setLoading(true);
     setError(null);
     try {
-      const base64 = await fileToBase64(imageFile);
-      const mime = getMimeType(imageFile);
+      const base64 = preparedImage ? preparedImage.base64 : await fileToBase64(imageFile!);
+      const mime = preparedImage ? preparedImage.mimeType : getMimeType(imageFile!);
       const interpretation = await generateFaceReading(base64, mime, language);
       setCachedAI('face', { key: cacheKey }, interpretation);
       setReading(interpretation);
@@ -160,7 +182,7 @@ const FaceReading: React.FC<FaceReadingProps> = ({ language }) => {
 
         <div className="flex flex-col items-center gap-6">
           {!previewUrl ? (
-            <label className="w-full h-64 border-2 border-slate-700 border-dashed rounded-xl flex flex-col items-center justify-center cursor-pointer bg-slate-900/40 hover:bg-slate-800/40 transition-colors">
+            <label onClick={handleNativePick} className="w-full h-64 border-2 border-slate-700 border-dashed rounded-xl flex flex-col items-center justify-center cursor-pointer bg-slate-900/40 hover:bg-slate-800/40 transition-colors">
               <span className="text-4xl mb-2">👤</span>
               <p className="text-slate-500 text-xs font-bold uppercase tracking-widest">
                 {t.chooseImage}
@@ -176,6 +198,7 @@ const FaceReading: React.FC<FaceReadingProps> = ({ language }) => {
                 onClick={() => {
                   setPreviewUrl(null);
                   setImageFile(null);
+                  setPreparedImage(null);
                   setReading(null);
                   setError(null);
                 }}
@@ -209,8 +232,8 @@ const FaceReading: React.FC<FaceReadingProps> = ({ language }) => {
               <SaveShareBar
                 language={language}
                 onSave={() => {
-                  if (!imageFile) return;
-                  const key = `face-${imageFile.name}-${imageFile.size}-${language}`;
+                  if (!imageKey) return;
+                  const key = `face-${imageKey}-${language}`;
                   const id = saveReport('face', { reading }, { key, lang: language }, 'Face Reading');
                   setIsSaved(true);
                   setSavedReportId(id);
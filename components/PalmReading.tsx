@@ -13,6 +13,7 @@ import { ModuleIntro, SaveShareBar } from './common';
 import { getCachedAI, setCachedAI } from '../utils/aiCacheService';
 import { requestScrollToMain } from '../utils/scrollToMain';
 import { saveReport, getReportByForm, deleteReport } from '../utils/reportStorageService';
+import { isNativeImagePrepAvailable, pickPreparedImage, PreparedImage } from '../utils/nativeImage';
 
 interface PalmReadingProps {
   language: Language;
@@ -21,6 +22,8 @@ interface PalmReadingProps {
 const PalmReading: React.FC<PalmReadingProps> = ({ language }) => {
   const t = useTranslation(language);
   const [imageFile, setImageFile] = useState<File | null>(null);
+  /** Photo picked and downscaled natively (Android app); replaces imageFile there */
+  const [preparedImage, setPreparedImage] = useState<PreparedImage | null>(null);
   const [previewUrl, setPreviewUrl] = useState<string | null>(null);
   const [reading, setReading] = useState<string | null>(null);
   const [loading, setLoading] = useState(false);
@@ -29,14 +32,15 @@ const PalmReading: React.FC<PalmReadingProps> = ({ language }) => {
   const [savedReportId, setSavedReportId] = useState<string | null>(null);
 
   const imgRef = useRef<HTMLImageElement>(null);
+  const imageKey = imageFile ? imageFile.name + imageFile.size : preparedImage?.sourceKey ?? null;
 
   useEffect(() => {
-    if (!reading || !imageFile) {
+    if (!reading || !imageKey) {
       setIsSaved(false);
       setSavedReportId(null);
       return;
     }
-    const fi = { palm: imageFile.name + imageFile.size, lang: language };
+    const fi = { palm: imageKey, lang: language };
     const sr = getReportByForm('palm', fi);
     if (sr?.meta?.id) {
       setIsSaved(true);
@@ -45,7 +49,7 @@ const PalmReading: React.FC<PalmReadingProps> = ({ language }) => {
       setIsSaved(false);
       setSavedReportId(null);
     }
-  }, [reading, imageFile, language]);
+  }, [reading, imageKey, language]);
 
   useEffect(() => {
     if (reading) requestScrollToMain();
@@ -55,15 +59,33 @@ const PalmReading: React.FC<PalmReadingProps> = ({ language }) => {
     if (e.target.files && e.target.files[0]) {
       const file = e.target.files[0];
       setImageFile(file);
+      setPreparedImage(null);
       setPreviewUrl(URL.createObjectURL(file));
       setReading(null);
       setError(null);
     }
   };
 
+  // In the app, pick natively so the full-size photo never enters the WebView as a base64 string
+  const handleNativePick = async (e: React.MouseEvent) => {
+    if (!isNativeImagePrepAvailable()) return;
+    e.preventDefault();
+    try {
+      const prepared = await pickPreparedImage();
+      if (!prepared) return;
+      setPreparedImage(prepared);
+      setImageFile(null);
+      setPreviewUrl(prepared.previewUrl);
+      setReading(null);
+      setError(null);
+    } catch (err) {
+      setErrorSafely(setError, err, language, 'PalmReading');
+    }
+  };
+
   const handleAnalyze = async () => {
-    if (!imageFile) return;
-    const cacheInput = { palm: imageFile.name + imageFile.size, lang: language };
+    if (!imageKey) return;
+    const cacheInput = { palm: imageKey, lang: language };
     const cached = getCachedAI<string>('palm', cacheInput);
     if (cached) {
       setReading(cached);
@@ -73,18 +95,24 @@ const PalmReading: React.FC<PalmReadingProps> = ({ language }) => {
     setError(null);
     try {
       let interpretation: string;
-      const mime = (imageFile.type === 'image/png' ? 'image/png' : imageFile.type === 'image/webp' ? 'image/webp' : 'image/jpeg') as 'image/jpeg' | 'image/png' | 'image/webp';
-      const base64 = await new Promise<string>((resolve, reject) => {
-        const reader = new FileReader();
-        reader.onload = () => {
-          const dataUrl = reader.result as string;
-          const base64Data = dataUrl.replace(/^data:image\/\w+;base64,/, '');
-          resolve(base64Data);
-        };
-        reader.onerror = reject;
-        reader.readAsDataURL(imageFile);
-      });
-      interpretation = await generatePalmReadingFromImage(base64, mime, language);
+      if (preparedImage) {
+        interpretation = await generatePalmReadingFromImage(preparedImage.base64, preparedImage.mimeType, language);
+      } else if (imageFile) {
+        const mime = (imageFile.type === 'image/png' ? 'image/png' : imageFile.type === 'image/webp' ? 'image/webp' : 'image/jpeg') as 'image/jpeg' | 'image/png' | 'image/webp';
+        const base64 = await new Promise<string>((resolve, reject) => {
+          const reader = new FileReader();
+          reader.onload = () => {
+            const dataUrl = reader.result as string;
+            const base64Data = dataUrl.replace(/^data:image\/\w+;base64,/, '');
+            resolve(base64Data);
+          };
+          reader.onerror = reject;
+          reader.readAsDataURL(imageFile);
+        });
+        interpretation = await generatePalmReadingFromImage(base64, mime, language);
+      } else {
+        return;
+      }
       setCachedAI('palm', cacheInput, interpretation);
       setReading(interpretation);
       // Show interstitial ad after reading (Android only)
@@ -165,7 +193,7 @@ const PalmReading: React.FC<PalmReadingProps> = ({ language }) => {
 
             <div className="flex flex-col items-center gap-6">
                 {!previewUrl ? (
-                    <label className="w-full h-64 border-2 border-slate-700 border-dashed rounded-xl flex flex-col items-center justify-center cursor-pointer bg-slate-900/40 hover:bg-slate-800/40 transition-colors">
+                    <label onClick={handleNativePick} className="w-full h-64 border-2 border-slate-700 border-dashed rounded-xl flex flex-col items-center justify-center cursor-pointer bg-slate-900/40 hover:bg-slate-800/40 transition-colors">
                         <span className="text-4xl mb-2">✋</span>
                         <p className="text-slate-500 text-xs font-bold uppercase tracking-widest">Upload your palm photo</p>
                         <input type="file" className="hidden" accept="image/*" onChange={handleFileChange} />
@@ -190,8 +218,8 @@ const PalmReading: React.FC<PalmReadingProps> = ({ language }) => {
                         <SaveShareBar
                           language={language}
                           onSave={() => {
-                            if (!imageFile) return;
-                            const fi = { palm: imageFile.name + imageFile.size, lang: language };
+                            if (!imageKey) return;
+                            const fi = { palm: imageKey, lang: language };
                             const id = saveReport('palm', { reading }, fi, 'Palm Reading');
                             setIsSaved(true);
                             setSavedReportId(id);
@@ -0,0 +1,244 @@
+#!/usr/bin/env node
+/**
+ * Compile public/blog/daily-posts.json into a compact binary inverted index for offline
+ * blog search in the Android app (BlogSearchPlugin memory-maps the segments).
+ *
+ * Output: public/blog/search/manifest.json + seg-<n>.bin segments.
+ * Runs incrementally: posts not yet indexed are written as a small delta segment; once there
+ * are MAX_SEGMENTS segments (or with --full) everything is compacted into one base segment.
+ *
+ * Segment layout (big-endian):
+ *   header   "CJBI" u16 version u16 reserved
+ *            u32 docCount  u32 totalDocLen  u32 termCount
+ *            u32 docTableOffset  u32 termTableOffset  u32 postingsOffset  u32 stringsOffset
+ *   docs     docCount x { u32 idOffset, u16 idLen, u16 reserved, u32 docLen }          (12 bytes)
+ *   terms    termCount x { u32 termOffset, u16 termLen, u16 reserved, u32 df, u32 postingsOffset } (16 bytes), sorted by UTF-8 bytes
+ *   postings per term: df x { varint docDelta, varint tf }
+ *   strings  UTF-8 ids and terms
+ * BM25 statistics (N, avgdl, df) are summed across segments at query time.
+ *
+ * Usage: node scripts/build-blog-search-index.mjs [--full]
+ */
+
+import fs from 'fs';
+import path from 'path';
+import { fileURLToPath } from 'url';
+
+const __dirname = path.dirname(fileURLToPath(import.meta.url));
+const BLOG_DIR = path.resolve(__dirname, '../public/blog');
+const INDEX_DIR = path.join(BLOG_DIR, 'search');
+const MANIFEST_PATH = path.join(INDEX_DIR, 'manifest.json');
+
+const MAGIC = 'CJBI';
+const FORMAT_VERSION = 1;
+const HEADER_BYTES = 36;
+const DOC_ENTRY_BYTES = 12;
+const TERM_ENTRY_BYTES = 16;
+const MAX_SEGMENTS = 8;
+/** Title and topic are repeated so BM25 term frequency favours them over body text. */
+const TITLE_WEIGHT = 3;
+const EXCERPT_WEIGHT = 2;
+
+const STOPWORDS = new Set(
+  ('a an and are as at be but by for from has have how in into is it its of on or that the their this to was were what when where which who why will with you your').split(' ')
+);
+
+/** Must match BlogSearchPlugin.tokenize: lowercase, split on anything that is not a letter/mark/digit. */
+function tokenize(text) {
+  return String(text || '')
+    .toLowerCase()
+    .split(/[^\p{L}\p{M}\p{N}]+/u)
+    .filter((t) => t.length >= 2 && !STOPWORDS.has(t));
+}
+
+function stripHtml(html) {
+  return String(html || '')
+    .replace(/<[^>]*>/g, ' ')
+    .replace(/&[a-z#0-9]+;/gi, ' ');
+}
+
+function postId(p) {
+  return p.articleId || p.id || (p.date && p.slug ? `${p.date}-${p.slug}` : p.slug) || '';
+}
+
+function postTokens(p) {
+  const parts = [];
+  for (let i = 0; i < TITLE_WEIGHT; i++) parts.push(p.title, p.serviceLabel || p.topic);
+  for (let i = 0; i < EXCERPT_WEIGHT; i++) parts.push(p.excerpt);
+  parts.push(stripHtml(p.content));
+  return tokenize(parts.join(' '));
+}
+
+function writeVarint(out, value) {
+  while (value >= 0x80) {
+    out.push((value & 0x7f) | 0x80);
+    value >>>= 7;
+  }
+  out.push(value);
+}
+
+function buildSegment(posts) {
+  const docs = [];
+  const postings = new Map(); // term -> [[docIdx, tf]]
+  let totalDocLen = 0;
+
+  posts.forEach((p, docIdx) => {
+    const tokens = postTokens(p);
+    const tf = new Map();
+    for (const t of tokens) tf.set(t, (tf.get(t) || 0) + 1);
+    for (const [term, count] of tf) {
+      if (!postings.has(term)) postings.set(term, []);
+      postings.get(term).push([docIdx, count]);
+    }
+    docs.push({ id: postId(p), len: tokens.length });
+    totalDocLen += tokens.length;
+  });
+
+  const terms = [...postings.keys()]
+    .map((term) => ({ term, bytes: Buffer.from(term, 'utf8') }))
+    .sort((a, b) => Buffer.compare(a.bytes, b.bytes));
+
+  const postingBytes = [];
+  const termPostingOffsets = terms.map(({ term }) => {
+    const offset = postingBytes.length;
+    let prev = 0;
+    for (const [docIdx, tf] of postings.get(term)) {
+      writeVarint(postingBytes, docIdx - prev);
+      writeVarint(postingBytes, tf);
+      prev = docIdx;
+    }
+    return offset;
+  });
+
+  const strings = [];
+  let stringsLen = 0;
+  const addString = (bytes) => {
+    const offset = stringsLen;
+    strings.push(bytes);
+    stringsLen += bytes.length;
+    return offset;
+  };
+  const docIds = docs.map((d) => {
+    const bytes = Buffer.from(d.id, 'utf8');
+    return { offset: addString(bytes), len: bytes.length };
+  });
+  const termStrings = terms.map(({ bytes }) => ({ offset: addString(bytes), len: bytes.length }));
+
+  const docTableOffset = HEADER_BYTES;
+  const termTableOffset = docTableOffset + docs.length * DOC_ENTRY_BYTES;
+  const postingsOffset = termTableOffset + terms.length * TERM_ENTRY_BYTES;
+  const stringsOffset = postingsOffset + postingBytes.length;
+  const buf = Buffer.alloc(stringsOffset + stringsLen);
+
+  buf.write(MAGIC, 0, 'ascii');
+  buf.writeUInt16BE(FORMAT_VERSION, 4);
+  buf.writeUInt32BE(docs.length, 8);
+  buf.writeUInt32BE(totalDocLen, 12);
+  buf.writeUInt32BE(terms.length, 16);
+  buf.writeUInt32BE(docTableOffset, 20);
+  buf.writeUInt32BE(termTableOffset, 24);
+  buf.writeUInt32BE(postingsOffset, 28);
+  buf.writeUInt32BE(stringsOffset, 32);
+
+  docs.forEach((d, i) => {
+    const at = docTableOffset + i * DOC_ENTRY_BYTES;
+    buf.writeUInt32BE(docIds[i].offset, at);
+    buf.writeUInt16BE(docIds[i].len, at + 4);
+    buf.writeUInt32BE(d.len, at + 8);
+  });
+  terms.forEach(({ term }, i) => {
+    const at = termTableOffset + i * TERM_ENTRY_BYTES;
+    buf.writeUInt32BE(termStrings[i].offset, at);
+    buf.writeUInt16BE(termStrings[i].len, at + 4);
+    buf.writeUInt32BE(postings.get(term).length, at + 8);
+    buf.writeUInt32BE(termPostingOffsets[i], at + 12);
+  });
+  Buffer.from(postingBytes).copy(buf, postingsOffset);
+  let at = stringsOffset;
+  for (const bytes of strings) {
+    bytes.copy(buf, at);
+    at += bytes.length;
+  }
+  return { buf, docCount: docs.length, termCount: terms.length };
+}
+
+function readSegmentIds(file) {
+  const buf = fs.readFileSync(path.join(INDEX_DIR, file));
+  if (buf.toString('ascii', 0, 4) !== MAGIC) throw new Error(`${file}: bad magic`);
+  const docCount = buf.readUInt32BE(8);
+  const docTableOffset = buf.readUInt32BE(20);
+  const stringsOffset = buf.readUInt32BE(32);
+  const ids = [];
+  for (let i = 0; i < docCount; i++) {
+    const at = docTableOffset + i * DOC_ENTRY_BYTES;
+    const offset = stringsOffset + buf.readUInt32BE(at);
+    ids.push(buf.toString('utf8', offset, offset + buf.readUInt16BE(at + 4)));
+  }
+  return ids;
+}
+
+function loadManifest() {
+  try {
+    const m = JSON.parse(fs.readFileSync(MANIFEST_PATH, 'utf8'));
+    if (m.version === FORMAT_VERSION && Array.isArray(m.segments)) return m;
+  } catch (_) {}
+  return null;
+}
+
+function main() {
+  const full = process.argv.includes('--full');
+  const data = JSON.parse(fs.readFileSync(path.join(BLOG_DIR, 'daily-posts.json'), 'utf8'));
+  const posts = (Array.isArray(data.posts) ? data.posts : []).filter((p) => postId(p));
+  if (posts.length === 0) {
+    console.error('daily-posts.json has no posts; nothing to index.');
+    process.exit(1);
+  }
+  fs.mkdirSync(INDEX_DIR, { recursive: true });
+
+  const previous = full ? null : loadManifest();
+  const indexed = new Set();
+  if (previous) {
+    for (const seg of previous.segments) {
+      try {
+        readSegmentIds(seg.file).forEach((id) => indexed.add(id));
+      } catch (e) {
+        console.warn(`Segment ${seg.file} unreadable (${e.message}); rebuilding full index.`);
+        return build(posts, null);
+      }
+    }
+  }
+  const fresh = posts.filter((p) => !indexed.has(postId(p)));
+  if (previous && fresh.length === 0) {
+    console.log('Blog search index is up to date.');
+    return;
+  }
+  const compact = !previous || previous.segments.length + 1 > MAX_SEGMENTS;
+  return build(compact ? posts : fresh, compact ? null : previous);
+}
+
+function build(posts, previous) {
+  const generation = (previous?.generation || loadManifest()?.generation || 0) + 1;
+  const file = `seg-${generation}.bin`;
+  const { buf, docCount, termCount } = buildSegment(posts);
+  fs.writeFileSync(path.join(INDEX_DIR, file), buf);
+
+  const segments = [...(previous ? previous.segments : []), { file, docs: docCount, bytes: buf.length }];
+  const manifest = {
+    version: FORMAT_VERSION,
+    generation,
+    generatedAt: new Date().toISOString(),
+    totalDocs: segments.reduce((n, s) => n + s.docs, 0),
+    segments,
+  };
+  fs.writeFileSync(MANIFEST_PATH, JSON.stringify(manifest, null, 2), 'utf8');
+
+  // Drop segments no longer referenced (after compaction)
+  const keep = new Set(segments.map((s) => s.file));
+  for (const f of fs.readdirSync(INDEX_DIR)) {
+    if (/^seg-\d+\.bin$/.test(f) && !keep.has(f)) fs.unlinkSync(path.join(INDEX_DIR, f));
+  }
+
+  console.log(`${previous ? 'Delta' : 'Full'} segment ${file}: ${docCount} posts, ${termCount} terms, ${buf.length} bytes (${segments.length} segment(s)).`);
+}
+
+main();
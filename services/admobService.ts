@@ -12,7 +12,7 @@ const AD_UNIT_ID = 'ca-app-pub-3559865379099936/3237133191';
 const APP_ID = 'ca-app-pub-3559865379099936~4711305500';
 
 interface AdMobService {
-  loadInterstitial(): Promise<void>;
+  loadInterstitial(options?: { preload?: boolean }): Promise<void>;
   showInterstitial(): Promise<void>;
   showInterstitialDelayed(delayMs?: number, onShown?: () => void): void;
   isInterstitialReady(): Promise<boolean>;
@@ -46,9 +46,10 @@ class AdMobServiceImpl implements AdMobService {
   }
 
   /**
-   * Load an interstitial ad
+   * Load an interstitial ad.
+   * preload: background load that native defers (code DEFERRED) on metered/slow links and runs itself later.
    */
-  async loadInterstitial(): Promise<void> {
+  async loadInterstitial(options?: { preload?: boolean }): Promise<void> {
     if (!isAndroid) {
       console.log('[AdMob] Not on Android, skipping ad load');
       return;
@@ -66,14 +67,17 @@ class AdMobServiceImpl implements AdMobService {
         throw new Error('AdMob plugin not available. Make sure the plugin is registered in MainActivity.');
       }
       
-      await plugin.loadInterstitial();
+      await plugin.loadInterstitial({ preload: options?.preload ?? false });
       
       this.adLoaded = true;
       this.isLoading = false;
       console.log('[AdMob] Interstitial ad loaded successfully');
     } catch (error) {
       this.isLoading = false;
-      console.error('[AdMob] Failed to load interstitial ad:', error);
+      // A deliberately deferred preload is not a failure; preloadAd logs it
+      if ((error as any)?.code !== 'DEFERRED') {
+        console.error('[AdMob] Failed to load interstitial ad:', error);
+      }
       throw error;
     }
   }
@@ -87,7 +91,8 @@ class AdMobServiceImpl implements AdMobService {
       return;
     }
 
-    if (!this.adLoaded) {
+    // A preload deferred natively may have completed since, without JS knowing
+    if (!this.adLoaded && !(await this.isInterstitialReady())) {
       console.log('[AdMob] Ad not loaded, loading first...');
       try {
         await this.loadInterstitial();
@@ -174,9 +179,13 @@ class AdMobServiceImpl implements AdMobService {
     }
 
     try {
-      await this.loadInterstitial();
+      await this.loadInterstitial({ preload: true });
     } catch (error) {
       // Silently fail for preloading
+      if ((error as any)?.code === 'DEFERRED') {
+        console.log('[AdMob] Preload deferred until network improves');
+        return;
+      }
       console.log('[AdMob] Preload failed (non-critical):', error);
     }
   }
@@ -2,9 +2,10 @@ import { Plugin } from '@capacitor/core';
 
 export interface AdMobPlugin extends Plugin {
   /**
-   * Load an interstitial ad
+   * Load an interstitial ad. With preload, rejects with code DEFERRED on a metered/slow
+   * link and loads natively once the link improves.
    */
-  loadInterstitial(): Promise<{ loaded: boolean }>;
+  loadInterstitial(options?: { preload?: boolean }): Promise<{ loaded: boolean }>;
   
   /**
    * Show the loaded interstitial ad
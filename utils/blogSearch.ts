@@ -0,0 +1,55 @@
+/**
+ * Offline ranked blog search via the native BlogSearch plugin (Android app only).
+ * The index is built by scripts/build-blog-search-index.mjs and synced as delta segments.
+ */
+
+function getBlogSearchPlugin() {
+  if (typeof window === 'undefined') return null;
+  return (window as any).Capacitor?.Plugins?.BlogSearch || null;
+}
+
+export function isNativeBlogSearchAvailable(): boolean {
+  return !!getBlogSearchPlugin()?.search;
+}
+
+/**
+ * Fetch index segments published since the last sync (best-effort, non-blocking for search).
+ * Resolves once the sync attempt has finished, whether or not it succeeded.
+ */
+export async function syncBlogSearchIndex(): Promise<void> {
+  try {
+    await getBlogSearchPlugin()?.sync?.();
+  } catch {
+    // Keep searching the index already on the device
+  }
+}
+
+/**
+ * Ids of all posts in the native index, or null if unavailable. Posts missing from it
+ * (published after the last successful sync) must be keyword-searched by the caller.
+ */
+export async function getBlogIndexIds(): Promise<Set<string> | null> {
+  const plugin = getBlogSearchPlugin();
+  if (!plugin?.getIndexedIds) return null;
+  try {
+    const result = await plugin.getIndexedIds();
+    return Array.isArray(result?.postIds) ? new Set<string>(result.postIds) : null;
+  } catch {
+    return null;
+  }
+}
+
+/**
+ * BM25-ranked post ids for a query, or null if the native index is unavailable
+ * (caller falls back to keyword search). limit 0 returns every match.
+ */
+export async function searchBlogIndex(query: string, limit = 50): Promise<string[] | null> {
+  const plugin = getBlogSearchPlugin();
+  if (!plugin?.search) return null;
+  try {
+    const result = await plugin.search({ query, limit });
+    return Array.isArray(result?.postIds) ? result.postIds : null;
+  } catch {
+    return null;
+  }
+}
@@ -0,0 +1,62 @@
+/**
+ * Bridge to the native DeepLink plugin (Android app only).
+ * Cold-start links are loaded natively as the start URL, so the existing ?mode= handling applies them.
+ * Warm links (app already open) arrive as a "deepLinkOpen" event and are applied without a page reload;
+ * when no App is mounted to listen, native loads the URL itself.
+ */
+
+import { pushDataLayer } from './dataLayer';
+
+export interface DeepLinkOpenEvent {
+  route: string;
+  url: string;
+}
+
+function getDeepLinkPlugin() {
+  if (typeof window === 'undefined') return null;
+  return (window as any).Capacitor?.Plugins?.DeepLink || null;
+}
+
+/**
+ * Listen for warm deep links. Returns an unsubscribe function.
+ */
+export function subscribeDeepLinks(onOpen: (event: DeepLinkOpenEvent) => void): () => void {
+  const plugin = getDeepLinkPlugin();
+  if (!plugin?.addListener) return () => {};
+
+  let handle: { remove: () => void } | null = null;
+  let cancelled = false;
+  Promise.resolve(plugin.addListener('deepLinkOpen', onOpen))
+    .then((h) => {
+      if (cancelled) h?.remove?.();
+      else handle = h ?? null;
+    })
+    .catch(() => {});
+
+  return () => {
+    cancelled = true;
+    handle?.remove?.();
+  };
+}
+
+/**
+ * Report that the linked content is on screen; records native link-to-content latency
+ * and forwards it to the data layer for monitoring. The current path lets native discard
+ * a pending route that targeted another document (e.g. a static blog page).
+ */
+export async function markDeepLinkShown(): Promise<void> {
+  const plugin = getDeepLinkPlugin();
+  if (!plugin?.markRouteShown) return;
+  try {
+    const result = await plugin.markRouteShown({ path: window.location.pathname || '/' });
+    if (result?.measured) {
+      pushDataLayer('deep_link_open', {
+        link_kind: result.kind,
+        link_route: result.route,
+        latency_ms: result.latencyMs,
+      });
+    }
+  } catch {
+    // Metrics are best-effort
+  }
+}
@@ -0,0 +1,55 @@
+/**
+ * Native photo pick + preprocessing via the ImagePrep plugin (Android app only).
+ * The full-resolution photo stays native: it is downsampled, EXIF-rotated, resized and
+ * re-encoded within a byte budget, and only the compact result reaches JS.
+ */
+
+export interface PreparedImage {
+  /** Base64 payload (no data: prefix) ready for Gemini inlineData */
+  base64: string;
+  mimeType: 'image/jpeg' | 'image/webp';
+  /** WebView-loadable URL of the prepared file, for preview */
+  previewUrl: string;
+  /** Stable key for the picked source (name + size), used for AI result caching */
+  sourceKey: string;
+  width: number;
+  height: number;
+  bytes: number;
+}
+
+export interface PrepareImageOptions {
+  source?: 'photos' | 'camera' | 'prompt';
+  maxDimension?: number;
+  maxBytes?: number;
+  format?: 'jpeg' | 'webp';
+  cropSquare?: boolean;
+}
+
+function getImagePrepPlugin() {
+  if (typeof window === 'undefined') return null;
+  return (window as any).Capacitor?.Plugins?.ImagePrep || null;
+}
+
+export function isNativeImagePrepAvailable(): boolean {
+  return !!getImagePrepPlugin()?.pickImage;
+}
+
+/**
+ * Pick/capture and prepare a photo natively. Resolves null if the user cancelled.
+ */
+export async function pickPreparedImage(options: PrepareImageOptions = {}): Promise<PreparedImage | null> {
+  const plugin = getImagePrepPlugin();
+  if (!plugin?.pickImage) throw new Error('ImagePrep plugin not available');
+  const result = await plugin.pickImage({ source: 'prompt', ...options });
+  if (!result || result.cancelled || !result.base64) return null;
+  const capacitor = (window as any).Capacitor;
+  return {
+    base64: result.base64,
+    mimeType: result.mimeType === 'image/webp' ? 'image/webp' : 'image/jpeg',
+    previewUrl: capacitor?.convertFileSrc ? capacitor.convertFileSrc(result.path) : result.path,
+    sourceKey: result.sourceKey || result.path,
+    width: result.width,
+    height: result.height,
+    bytes: result.bytes,
+  };
+}
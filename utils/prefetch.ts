@@ -0,0 +1,80 @@
+/**
+ * Predictive prefetch of next-screen data via the native Prefetch plugin (Android app only).
+ * The native side runs hints on a bounded, bandwidth/battery-aware queue and serves results
+ * to the WebView's own fetch() calls, so callers keep fetching as usual.
+ */
+
+import type { AppViewMode } from '../types';
+
+export type PrefetchPriority = 'high' | 'normal' | 'low';
+
+export interface PrefetchHint {
+  url: string;
+  priority?: PrefetchPriority;
+  tag?: string;
+  maxAgeSeconds?: number;
+  /** How long callers that opt out of caching (fetch cache: 'no-store') may still get the prefetched copy. */
+  uncachedMaxAgeSeconds?: number;
+  /** Largest response worth caching (native default 512 KB); bigger responses are dropped and not retried. */
+  maxBytes?: number;
+}
+
+const NAV_TAG = 'nav';
+
+function getPrefetchPlugin() {
+  if (typeof window === 'undefined') return null;
+  return (window as any).Capacitor?.Plugins?.Prefetch || null;
+}
+
+function absolute(path: string): string {
+  return new URL(path, window.location.origin).toString();
+}
+
+/**
+ * Likely next screens per mode along profile -> kundali -> daily -> blog. Only GET resources can be
+ * prefetched: kundali and horoscope data are per-user POSTs to the backend, so the only hint is the
+ * blog feed, warmed from the daily screen. It is ~1.8 MB, so it gets a matching byte budget and normal
+ * priority (skipped on metered/slow links and low battery); DailyAIBlog fetches it with no-store, so
+ * the copy is only handed over within a short window.
+ */
+const NEXT_SCREEN_HINTS: Partial<Record<AppViewMode, Array<Omit<PrefetchHint, 'url' | 'tag'> & { path: string; target: AppViewMode }>>> = {
+  daily: [{
+    path: '/blog/daily-posts.json',
+    target: 'ai-blog',
+    priority: 'normal',
+    maxAgeSeconds: 120,
+    uncachedMaxAgeSeconds: 120,
+    maxBytes: 3 * 1024 * 1024,
+  }],
+};
+
+/** In-flight navigation hints: url -> screen that will use it. */
+let navTargets = new Map<string, AppViewMode>();
+
+export function hintPrefetch(hints: PrefetchHint[]): void {
+  const plugin = getPrefetchPlugin();
+  if (!plugin?.prefetch || hints.length === 0) return;
+  plugin.prefetch({ hints }).catch(() => {});
+}
+
+export function cancelPrefetch(tag?: string): void {
+  const plugin = getPrefetchPlugin();
+  if (!plugin?.cancel) return;
+  plugin.cancel(tag ? { tag } : {}).catch(() => {});
+}
+
+/**
+ * Replace navigation hints when the user changes screen: hints for a path the user left are cancelled
+ * so they don't compete with what the user needs now. Hints the new screen still predicts, or that
+ * were for the screen being opened, keep running instead of being restarted.
+ */
+export function prefetchForMode(mode: AppViewMode): void {
+  const plugin = getPrefetchPlugin();
+  if (!plugin) return;
+  const next = NEXT_SCREEN_HINTS[mode] || [];
+  const targets = new Map(next.map(({ path, target }) => [absolute(path), target] as [string, AppViewMode]));
+  const stale = [...navTargets].filter(([url, target]) => !targets.has(url) && target !== mode).map(([url]) => url);
+  if (stale.length > 0 && plugin.cancel) plugin.cancel({ urls: stale }).catch(() => {});
+  navTargets = targets;
+  hintPrefetch(next.map(({ path, target: _target, ...hint }) => ({ ...hint, url: absolute(path), tag: NAV_TAG })));
+}
@@ -1,9 +1,57 @@
 import { useState, useEffect } from 'react';
 
+/**
+ * Connectivity snapshot pushed by the native NetworkQuality plugin (Android app only).
+ */
+export interface NetworkQuality {
+  connected: boolean;
+  transport: 'wifi' | 'cellular' | 'ethernet' | 'vpn' | 'bluetooth' | 'none' | 'unknown';
+  metered: boolean;
+  downlinkKbps: number;
+  uplinkKbps: number;
+  slow: boolean;
+  /** Offline, metered or slow - defer optional heavy loads */
+  constrained: boolean;
+}
+
+function getNetworkQualityPlugin() {
+  if (typeof window === 'undefined') return null;
+  return (window as any).Capacitor?.Plugins?.NetworkQuality || null;
+}
+
+/**
+ * Subscribe to native network quality updates. Returns an unsubscribe function.
+ * No-op on web, where only online/offline events are available.
+ */
+export function subscribeNetworkQuality(onChange: (quality: NetworkQuality) => void): () => void {
+  const plugin = getNetworkQualityPlugin();
+  if (!plugin) return () => {};
+
+  let handle: { remove: () => void } | null = null;
+  let cancelled = false;
+
+  plugin.getStatus?.().then((q: NetworkQuality) => {
+    if (!cancelled) onChange(q);
+  }).catch(() => {});
+
+  Promise.resolve(plugin.addListener?.('networkStatusChange', onChange))
+    .then((h) => {
+      if (cancelled) h?.remove?.();
+      else handle = h ?? null;
+    })
+    .catch(() => {});
+
+  return () => {
+    cancelled = true;
+    handle?.remove?.();
+  };
+}
+
 /**
  * Hook to detect online/offline status.
  * Uses navigator.onLine with fallback for older browsers.
  * Re-attaches listeners on window online/offline events.
+ * In the Android app, native connectivity callbacks take precedence.
  */
 export function useNetworkStatus(): boolean {
   const [isOnline, setIsOnline] = useState(() => {
@@ -23,11 +71,25 @@ export function useNetworkStatus(): boolean {
     // Sync with current state (in case we missed an event)
     setIsOnline(navigator.onLine);
 
+    const unsubscribe = subscribeNetworkQuality((q) => setIsOnline(q.connected));
+
     return () => {
       window.removeEventListener('online', handleOnline);
       window.removeEventListener('offline', handleOffline);
+      unsubscribe();
     };
   }, []);
 
   return isOnline;
 }
+
+/**
+ * Hook exposing the full native network quality snapshot (null on web or before first update).
+ */
+export function useNetworkQuality(): NetworkQuality | null {
+  const [quality, setQuality] = useState<NetworkQuality | null>(null);
+
+  useEffect(() => subscribeNetworkQuality(setQuality), []);
+
+  return quality;
+}